@@ -0,0 +1,9 @@
+package yuquiz.common.cache;
+
+/* 인스턴스 간 L1 캐시 무효화 메시지, key가 null이면 캐시 전체 비우기 */
+public record CacheEvictionMessage(
+        String instanceId,
+        String cacheName,
+        String key
+) {
+}
@@ -0,0 +1,41 @@
+package yuquiz.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheEvictionPublisher {
+
+    public static final String CACHE_EVICTION_TOPIC = "cache:eviction";
+
+    /* 자기 자신이 보낸 메시지를 구분하기 위한 인스턴스 식별자 */
+    static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(new CacheEvictionMessage(INSTANCE_ID, cacheName, String.valueOf(key)));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new CacheEvictionMessage(INSTANCE_ID, cacheName, null));
+    }
+
+    private void publish(CacheEvictionMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CACHE_EVICTION_TOPIC, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 전파에 실패해도 다른 인스턴스의 L1은 TTL이 지나면 만료됨
+            log.warn("Failed to publish cache eviction for {}: {}", message.cacheName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package yuquiz.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheEvictionSubscriber implements MessageListener {
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheEvictionMessage eviction = objectMapper.readValue(message.getBody(), CacheEvictionMessage.class);
+
+            // 발행한 인스턴스는 이미 자신의 L1을 비웠음
+            if (CacheEvictionPublisher.INSTANCE_ID.equals(eviction.instanceId())) {
+                return;
+            }
+
+            if (cacheManager instanceof TieredCacheManager tieredCacheManager) {
+                tieredCacheManager.evictLocal(eviction.cacheName(), eviction.key());
+            }
+        } catch (IOException e) {
+            log.error("Failed to read cache eviction message: {}", e.getMessage());
+        }
+    }
+}
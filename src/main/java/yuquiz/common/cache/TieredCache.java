@@ -0,0 +1,167 @@
+package yuquiz.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 프로세스 내 Caffeine(L1)을 Redis 캐시(L2) 앞에 둔 2단계 캐시.
+ * 조회는 L1 → L2 순으로 하고 L2에서 찾은 값은 L1에 채운다.
+ * 무효화는 양쪽 모두에 적용한 뒤 다른 인스턴스의 L1도 비우도록 Redis pub/sub으로 전파한다.
+ * 트랜잭션 중의 무효화는 커밋 후에 적용해, 커밋 전 값을 다시 읽어 캐시에 채우는 일이 없도록 한다.
+ */
+public class TieredCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<Object, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final CacheEvictionPublisher evictionPublisher;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+
+    public TieredCache(String name,
+                       Cache<Object, Object> localCache,
+                       org.springframework.cache.Cache remoteCache,
+                       CacheEvictionPublisher evictionPublisher,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.evictionPublisher = evictionPublisher;
+
+        this.localHit = counter(meterRegistry, "l1", "hit");
+        this.localMiss = counter(meterRegistry, "l1", "miss");
+        this.remoteHit = counter(meterRegistry, "l2", "hit");
+        this.remoteMiss = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHit.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+        localMiss.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteMiss.increment();
+            return null;
+        }
+        remoteHit.increment();
+
+        localCache.put(key, remoteValue.get());
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object cached = value.get();
+        if (type != null && !type.isInstance(cached)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + cached);
+        }
+        return (T) cached;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        afterCommit(() -> {
+            remoteCache.evict(key);
+            localCache.invalidate(key);
+            evictionPublisher.publishEvict(name, key);
+        });
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> {
+            remoteCache.clear();
+            localCache.invalidateAll();
+            evictionPublisher.publishClear(name);
+        });
+    }
+
+    /* 다른 인스턴스에서 전파된 무효화 반영 (L1만) */
+    public void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /* 트랜잭션 중이면 커밋 후 실행, 아니면 바로 실행 */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tiered.gets")
+                .description("2단계 캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package yuquiz.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 이름마다 Caffeine L1과 기존 캐시 매니저(Redis)의 L2를 묶은 TieredCache를 만든다.
+ */
+public class TieredCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheEvictionPublisher evictionPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+
+    private final Map<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheManager remoteCacheManager,
+                              CacheEvictionPublisher evictionPublisher,
+                              MeterRegistry meterRegistry,
+                              Duration localTtl,
+                              long localMaximumSize) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.evictionPublisher = evictionPublisher;
+        this.meterRegistry = meterRegistry;
+        this.localTtl = localTtl;
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /* 다른 인스턴스의 무효화 메시지 반영, 아직 만들어지지 않은 캐시는 비울 것이 없음 */
+    public void evictLocal(String name, Object key) {
+        TieredCache cache = caches.get(name);
+        if (cache == null) {
+            return;
+        }
+
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TieredCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("No remote cache configured for " + name);
+        }
+
+        return new TieredCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(localTtl)
+                        .maximumSize(localMaximumSize)
+                        .build(),
+                remoteCache,
+                evictionPublisher,
+                meterRegistry
+        );
+    }
+}
@@ -17,6 +17,7 @@ import yuquiz.common.exception.dto.ExceptionsRes;
 import yuquiz.common.exception.exceptionCode.ExceptionCode;
 import yuquiz.common.exception.exceptionCode.JwtExceptionCode;
 import yuquiz.common.utils.jwt.JwtProvider;
+import yuquiz.common.utils.jwt.VerifiedToken;
 import yuquiz.security.token.blacklist.BlackListTokenService;
 
 import java.io.IOException;
@@ -46,24 +47,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String accessToken = resolveAccessToken(response, accessTokenGetHeader);
+        VerifiedToken verifiedToken = resolveAccessToken(response, accessTokenGetHeader);
 
-        if (accessToken == null)    // resolveAccessToken 메서드에 의해 accessToken에 문제가 있을 경우.
+        if (verifiedToken == null)    // resolveAccessToken 메서드에 의해 accessToken에 문제가 있을 경우.
             return;
 
-        Authentication auth = getAuthentication(accessToken);
+        Authentication auth = getAuthentication(verifiedToken);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
         filterChain.doFilter(request, response);
     }
 
-    /* jwt 확인 */
-    private String resolveAccessToken(HttpServletResponse response, String accessTokenGetHeader) throws IOException {
+    /* jwt 확인, 서명 검증은 요청당 한 번만 수행 */
+    private VerifiedToken resolveAccessToken(HttpServletResponse response, String accessTokenGetHeader) throws IOException {
         String accessToken = accessTokenGetHeader.substring(TOKEN_PREFIX.length()).trim();
 
         accessToken = accessToken.replaceAll(SPECIAL_CHARACTERS_PATTERN, "");
 
-        if (jwtProvider.isExpired(accessToken)) {      // 만료되었는지
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+
+        if (verifiedToken.isExpired()) {      // 만료되었는지
             handleExceptionToken(response, JwtExceptionCode.ACCESS_TOKEN_EXPIRED);
             return null;
         }
@@ -72,14 +75,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handleExceptionToken(response, JwtExceptionCode.BLACKLIST_ACCESS_TOKEN);
             return null;
         }
-        return accessToken;
+        return verifiedToken;
     }
 
 
     /* Authentication 가져오기 */
-    private Authentication getAuthentication(String token) {
+    private Authentication getAuthentication(VerifiedToken verifiedToken) {
 
-        String userId = String.valueOf(jwtProvider.getUserId(token));
+        String userId = String.valueOf(verifiedToken.userId());
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
 
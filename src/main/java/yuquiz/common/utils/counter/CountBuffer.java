@@ -0,0 +1,54 @@
+package yuquiz.common.utils.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티 id별 카운트 증가분을 메모리에 모아두는 버퍼.
+ * ConcurrentHashMap의 bin 단위 잠금이 스트라이프 역할을 하므로 서로 다른 id의 증가는 경합하지 않으며,
+ * drain 시 remove로 값을 꺼내기 때문에 flush 도중 들어온 증가분도 유실되지 않는다.
+ */
+public class CountBuffer {
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /* 증가분 누적 */
+    public void increase(Long id) {
+        pending.merge(id, 1L, Long::sum);
+    }
+
+    /* 아직 반영되지 않은 증가분 */
+    public long getPending(Long id) {
+        return pending.getOrDefault(id, 0L);
+    }
+
+    /* 반영 대기 중인 전체 증가분 */
+    public long getPendingTotal() {
+        return pending.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /* 버퍼를 비우고 id별 증가분 반환 */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null && delta != 0) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+
+    /* flush 실패 시 증가분 되돌리기 */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> pending.merge(id, delta, Long::sum));
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+package yuquiz.common.utils.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록 조회 시 함께 실행되는 count 쿼리 결과를 (엔티티, 필터, 검색어 해시) 단위로 잠시 보관하는 캐시.
+ * 생성/삭제 시 엔티티 단위로 무효화하며, 다른 인스턴스의 변경은 TTL이 지나면 반영된다.
+ * approximate 모드에서는 필터가 없는 목록의 전체 개수를 information_schema의 테이블 통계로 대신한다.
+ */
+@Slf4j
+@Component
+public class PageCountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final String DELIMITER = "|";
+    private static final String TABLE_ROWS_QUERY =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttl;
+    private final boolean approximate;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public PageCountCache(JdbcTemplate jdbcTemplate,
+                          @Value("${count-cache.ttl}") long ttl,
+                          @Value("${count-cache.approximate}") boolean approximate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.approximate = approximate;
+    }
+
+    /* 필터/검색어 조합별 개수 조회, 캐시에 없거나 만료되었으면 countQuery 실행 */
+    public long getCount(Class<?> entity, String filter, String keyword, LongSupplier countQuery) {
+        String key = entity.getSimpleName() + DELIMITER + filter + DELIMITER + hash(keyword);
+        return getOrLoad(key, countQuery);
+    }
+
+    /* 필터가 없는 전체 목록의 개수, approximate 모드면 테이블 통계 값 사용 */
+    public long getUnfilteredCount(Class<?> entity, LongSupplier countQuery) {
+        String key = entity.getSimpleName() + DELIMITER + DELIMITER;
+
+        if (!approximate) {
+            return getOrLoad(key, countQuery);
+        }
+        return getOrLoad(key, () -> estimateRows(entity, countQuery));
+    }
+
+    /* 엔티티 생성/삭제 시 해당 엔티티의 캐시된 개수 제거 (트랜잭션 중이면 커밋 후 제거) */
+    public void evict(Class<?> entity) {
+        String prefix = entity.getSimpleName() + DELIMITER;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeByPrefix(prefix);
+                }
+            });
+            return;
+        }
+        removeByPrefix(prefix);
+    }
+
+    private void removeByPrefix(String prefix) {
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private long getOrLoad(String key, LongSupplier countQuery) {
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = countQuery.getAsLong();
+
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        if (counts.size() < MAX_ENTRIES) {
+            counts.put(key, new CachedCount(count, now + ttl));
+        }
+        return count;
+    }
+
+    private long estimateRows(Class<?> entity, LongSupplier countQuery) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(TABLE_ROWS_QUERY, Long.class, entity.getSimpleName());
+            if (rows != null) {
+                return rows;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read table estimate for {}: {}", entity.getSimpleName(), e.getMessage());
+        }
+        return countQuery.getAsLong();
+    }
+
+    private String hash(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return "";
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(keyword.trim().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashed, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
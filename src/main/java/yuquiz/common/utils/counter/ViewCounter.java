@@ -0,0 +1,93 @@
+package yuquiz.common.utils.counter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티별 조회수 서비스가 함께 사용하는 조회수 버퍼.
+ * 증가분을 CountBuffer에 모았다가 같은 증가분끼리 묶어 updater로 반영하고,
+ * 반영 대기 중인 증가분과 가장 오래된 증가 이후 경과 시간을 {name}.view_count.* 메트릭으로 노출한다.
+ */
+@Slf4j
+public class ViewCounter {
+
+    private final String name;
+    private final CountUpdater updater;
+
+    private final CountBuffer buffer = new CountBuffer();
+    private final AtomicLong oldestPendingAt = new AtomicLong();     // 반영되지 않은 가장 오래된 증가 시각(ms), 없으면 0
+
+    public ViewCounter(String name, CountUpdater updater, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.updater = updater;
+
+        Gauge.builder(name + ".view_count.pending", buffer, CountBuffer::getPendingTotal)
+                .description("DB에 반영 대기 중인 조회수 증가분")
+                .register(meterRegistry);
+
+        Gauge.builder(name + ".view_count.flush.lag", this, ViewCounter::getFlushLagMillis)
+                .description("반영되지 않은 가장 오래된 조회수 증가 이후 경과 시간")
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .register(meterRegistry);
+    }
+
+    /* 조회수 증가 (메모리에 누적) */
+    public void increase(Long id) {
+        buffer.increase(id);
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+    }
+
+    /* 아직 반영되지 않은 증가분 */
+    public int getPending(Long id) {
+        return (int) buffer.getPending(id);
+    }
+
+    /* 누적된 조회수를 DB에 반영, 실패한 증가분은 버퍼로 되돌려 다음 주기에 재시도 */
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        long pendingSince = oldestPendingAt.get();
+        Map<Long, Long> drained = buffer.drain();
+
+        // drain 이후에 들어온 증가분이 있으면 지금부터 대기한 것으로 기록
+        oldestPendingAt.set(0);
+        if (!buffer.isEmpty()) {
+            oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        }
+
+        // 같은 증가분끼리 묶어 IN 조건 UPDATE 한 번으로 처리
+        Map<Long, List<Long>> idsByDelta = drained.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        idsByDelta.forEach((delta, ids) -> {
+            try {
+                updater.update(ids, delta.intValue());
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} view counts: {}", name, e.getMessage());
+                buffer.restore(ids.stream()
+                        .collect(Collectors.toMap(id -> id, id -> delta)));
+                oldestPendingAt.updateAndGet(current -> current == 0 ? pendingSince : Math.min(current, pendingSince));
+            }
+        });
+    }
+
+    private long getFlushLagMillis() {
+        long pendingSince = oldestPendingAt.get();
+        return pendingSince == 0 ? 0 : System.currentTimeMillis() - pendingSince;
+    }
+
+    @FunctionalInterface
+    public interface CountUpdater {
+        void update(List<Long> ids, int delta);
+    }
+}
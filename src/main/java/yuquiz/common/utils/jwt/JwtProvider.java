@@ -1,6 +1,11 @@
 package yuquiz.common.utils.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,6 +13,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
@@ -22,14 +29,23 @@ public class JwtProvider {
     private final long refreshExpiration;
     private final String issuer;
 
+    private final JwtParser jwtParser;                          // 스레드 안전하므로 한 번만 생성해 재사용
+    private final Cache<String, VerifiedToken> verifiedTokens;  // 최근 검증한 토큰 digest, 비활성화 시 null
+
     public JwtProvider(@Value("${jwt.secret}") String SECRET_KEY,
                    @Value("${jwt.access-expiration}") long accessExpiration,
                    @Value("${jwt.refresh-expiration}") long refreshExpiration,
-                   @Value("${jwt.issuer}") String issuer) {
+                   @Value("${jwt.issuer}") String issuer,
+                   @Value("${jwt.verified-cache.maximum-size}") long verifiedCacheMaximumSize) {
         this.secretKey = new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.accessExpiration = accessExpiration;
         this.refreshExpiration = refreshExpiration;
         this.issuer = issuer;
+
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheMaximumSize > 0 ? createVerifiedTokenCache(verifiedCacheMaximumSize) : null;
     }
 
     /* access Token 발급 */
@@ -65,11 +81,37 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 서명을 한 번만 검증하고 claim을 반환.
+     * 만료된 토큰도 서명이 유효하면 claim을 반환하므로 호출 측에서 isExpired()로 확인해야 하며,
+     * 서명이 잘못된 토큰은 JwtException을 던진다.
+     */
+    public VerifiedToken verify(String token) {
+        String digest = verifiedTokens != null ? TokenDigest.sha256Hex(token) : null;  // 원본 토큰 대신 digest를 키로 보관
+
+        if (digest != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null && !cached.isExpired()) {
+                return cached;
+            }
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = VerifiedToken.from(parseClaims(token));
+        } catch (ExpiredJwtException e) {        // 서명 검증 후 만료 검사에서 실패한 경우
+            return VerifiedToken.from(e.getClaims());
+        }
+
+        if (digest != null) {
+            verifiedTokens.put(digest, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
     /* 토큰 정보 불러오기 */
     private Claims parseClaims(String token){
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -100,4 +142,27 @@ public class JwtProvider {
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime();
     }
-}
\ No newline at end of file
+
+    /* 토큰의 만료 시각까지만 보관하는 캐시 */
+    private Cache<String, VerifiedToken> createVerifiedTokenCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package yuquiz.common.utils.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/* 토큰 원문 대신 보관/비교에 사용하는 SHA-256 digest */
+public final class TokenDigest {
+
+    public static final int TRUNCATED_LENGTH = 16;      // 128bit, 충돌 가능성은 무시할 수 있는 수준
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    /* 앞 16바이트만 사용하는 digest */
+    public static byte[] truncatedSha256(String token) {
+        return Arrays.copyOf(sha256(token), TRUNCATED_LENGTH);
+    }
+
+    /* Redis key 등에 쓰기 위한 base64url 문자열 (패딩 없이 22자) */
+    public static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    public static byte[] decode(String encoded) {
+        return Base64.getUrlDecoder().decode(encoded);
+    }
+}
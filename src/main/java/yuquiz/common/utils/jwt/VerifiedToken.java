@@ -0,0 +1,35 @@
+package yuquiz.common.utils.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 서명 검증을 마친 토큰의 claim.
+ * 한 요청 안에서 만료 여부, userId 등을 다시 파싱하지 않고 꺼내 쓰기 위해 사용한다.
+ */
+public record VerifiedToken(
+        Long userId,
+        String username,
+        String role,
+        Instant expiration
+) {
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+
+    public LocalDateTime getExpiryDate() {
+        return expiration.atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
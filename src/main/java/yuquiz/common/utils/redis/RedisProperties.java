@@ -9,8 +9,20 @@ public interface RedisProperties {
     String CHAT_PREFIX = "chat::";
     String MEMBER_PREFIX = "::member::";
     String MESSAGE_PREFIX = "chat::message::";
+    String MESSAGE_LOCK_PREFIX = "chat::lock::";
+    String MIGRATION_LOCK_KEY = "chat::migration::lock";
+    String RECENT_MESSAGE_PREFIX = "chat::recent::";
+    String DEAD_MESSAGE_PREFIX = "chat::dead::";
+    String ACTIVE_ROOM_KEY = "chat::rooms";
+    String CHAT_TOPIC_PREFIX = "chatroom:";
+    String NOTIFICATION_TOPIC = "notification";
+    String NOTIFICATION_SEQUENCE_KEY = "notification::sequence";
+    String NOTIFICATION_EVENT_PREFIX = "notification::events::";
 
     long CODE_EXPIRATION_TIME = 3*60;
     long PASS_EXPIRATION_TIME = 5*60;
     long CHAT_EXPIRATION_TIME = 6*60*60;
+    long MESSAGE_EXPIRATION_TIME = 24*60*60;
+    long DEAD_MESSAGE_EXPIRATION_TIME = 7*24*60*60;
+    int RECENT_MESSAGE_LIMIT = 100;     // 최근 메시지 조회 최대 개수, list에는 1개 더 보관
 }
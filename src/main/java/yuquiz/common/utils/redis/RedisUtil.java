@@ -1,22 +1,45 @@
 package yuquiz.common.utils.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.ACTIVE_ROOM_KEY;
 
 @RequiredArgsConstructor
 @Component
 public class RedisUtil {
 
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final String EXPIRE_IF_EQUALS_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('expire', KEYS[1], ARGV[2]) else return 0 end";
+    private static final RedisScript<Long> COPY_WITH_TTL_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('get', KEYS[1]) "
+                    + "if not value then return 0 end "
+                    + "local ttl = redis.call('pttl', KEYS[1]) "
+                    + "if ttl > 0 then redis.call('set', KEYS[2], value, 'PX', ttl) else redis.call('set', KEYS[2], value) end "
+                    + "return 1",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     /* Redis 저장. */
@@ -34,6 +57,39 @@ public class RedisUtil {
         redisTemplate.delete(key);
     }
 
+    /* 1 증가 후 값 반환 (없으면 0에서 시작) */
+    public long increment(String key) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        return value != null ? value : 0;
+    }
+
+    /* 없을 때만 저장 (만료시간 포함). 락 용도 */
+    public boolean setIfAbsent(String key, Object value, long seconds) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(seconds)));
+    }
+
+    /* 값이 같을 때만 삭제 (조회와 삭제를 Lua script로 한 번에 실행). 락 해제 용도 */
+    public boolean deleteIfEquals(String key, Object value) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), value);
+        return deleted != null && deleted > 0;
+    }
+
+    /* 값이 같을 때만 만료시간 갱신 (Lua script). 락 연장 용도 */
+    public boolean expireIfEquals(String key, Object value, long seconds) {
+        // 만료시간은 value serializer(JSON)를 거치지 않도록 bytes로 직접 전달
+        Long extended = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(EXPIRE_IF_EQUALS_SCRIPT.getBytes(StandardCharsets.UTF_8),
+                        ReturnType.INTEGER, 1,
+                        rawKey(key), rawValue(value), String.valueOf(seconds).getBytes(StandardCharsets.UTF_8)));
+        return extended != null && extended > 0;
+    }
+
+    /* 값과 남은 만료시간을 그대로 다른 key에 복사 (Lua script), 원본은 유지. 원본이 없으면 false */
+    public boolean copyWithTtl(String sourceKey, String targetKey) {
+        Long copied = redisTemplate.execute(COPY_WITH_TTL_SCRIPT, List.of(sourceKey, targetKey));
+        return copied != null && copied > 0;
+    }
+
     /* Redis 존재 확인. */
     public boolean existed(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
@@ -49,6 +105,28 @@ public class RedisUtil {
         return redisTemplate.getExpire(key, timeUnit);
     }
 
+    /**
+     * 패턴에 맞는 key를 SCAN으로 count개씩 나눠 조회하며 하나씩 전달.
+     * KEYS와 달리 한 번의 명령이 전체 keyspace를 돌지 않으므로 다른 명령을 오래 막지 않는다.
+     */
+    public void scan(String pattern, int count, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(count)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+
+    /* 패턴에 맞는 key 조회 (KEYS 대신 SCAN으로 나눠서 조회) */
+    public List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        scan(pattern, 1000, keys::add);
+        return keys;
+    }
+
     /* List형식 저장 */
     public void setList(String key, Object value) {
         redisTemplate.opsForList().rightPush(key, value);
@@ -60,18 +138,74 @@ public class RedisUtil {
                 .range(key, 0, -1));
     }
 
-    /* 채팅방 관련 key값 불러오기 */
-    public List<Long> getRoomIds() {
+    /* List 일부 불러오기 */
+    public List<Object> getList(String key, long start, long end) {
+        List<Object> values = redisTemplate.opsForList().range(key, start, end);
+        return values != null ? values : new ArrayList<>();
+    }
 
-        Set<String> keys = redisTemplate.keys(MESSAGE_PREFIX + "*");
+    /* List 앞에서부터 count개 제거 */
+    public void removeListHead(String key, long count) {
+        redisTemplate.opsForList().trim(key, count, -1);
+    }
 
-        List<Long> roomIds = new ArrayList<>();
-        if (keys != null) {
-            roomIds = keys.stream()
-                    .map(key -> key.replace(MESSAGE_PREFIX, "")) // PREFIX 제거
-                    .map(Long::valueOf)
-                    .collect(Collectors.toList());
-        }
-        return roomIds;
+    /* List 길이 */
+    public long getListSize(String key) {
+        Long size = redisTemplate.opsForList().size(key);
+        return size != null ? size : 0;
+    }
+
+    /* List 일부를 역직렬화하지 않은 bytes로 불러오기 */
+    public List<byte[]> getRawList(String key, long start, long end) {
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.listCommands().lRange(rawKey(key), start, end));
+        return values != null ? values : new ArrayList<>();
+    }
+
+    /* 직렬화된 bytes를 그대로 발행 */
+    public void publishRaw(String channel, byte[] message) {
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.publish(rawKey(channel), message));
+    }
+
+    /* Set형식 저장 */
+    public void addSet(String key, Object value) {
+        redisTemplate.opsForSet().add(key, value);
+    }
+
+    /* Set에서 삭제 */
+    public void removeSet(String key, Object value) {
+        redisTemplate.opsForSet().remove(key, value);
+    }
+
+    /* Set형식 불러오기 */
+    public Set<Object> getSet(String key) {
+        Set<Object> members = redisTemplate.opsForSet().members(key);
+        return members != null ? members : Set.of();
+    }
+
+    /* 여러 명령을 pipeline으로 묶어 한 번의 왕복으로 전송 */
+    public void executePipelined(Consumer<RedisConnection> commands) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(connection);
+            return null;
+        });
+    }
+
+    public byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* value serializer로 직렬화 (addSet 등으로 저장한 값과 같은 형식) */
+    @SuppressWarnings("unchecked")
+    public byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    /* 저장 대기 중인 메시지가 있는 채팅방 id 불러오기 (KEYS 대신 관리 중인 Set 조회) */
+    public List<Long> getRoomIds() {
+        return getSet(ACTIVE_ROOM_KEY).stream()
+                .map(roomId -> Long.valueOf(String.valueOf(roomId)))
+                .collect(Collectors.toList());
     }
 }
@@ -1,5 +1,6 @@
 package yuquiz.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,6 +12,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import yuquiz.common.cache.CacheEvictionPublisher;
+import yuquiz.common.cache.TieredCacheManager;
 
 import java.time.Duration;
 
@@ -21,16 +24,39 @@ public class CacheConfig {
     @Value("${cache.ttl}")
     private long DEFAULT_CACHE_TTL;
 
+    @Value("${cache.local.ttl}")
+    private long LOCAL_CACHE_TTL;
+
+    @Value("${cache.local.maximum-size}")
+    private long LOCAL_CACHE_MAXIMUM_SIZE;
+
+    /* 로컬(Caffeine) L1 + Redis L2 */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     CacheEvictionPublisher cacheEvictionPublisher,
+                                     MeterRegistry meterRegistry) {
+
+        return new TieredCacheManager(
+                redisCacheManager(redisConnectionFactory),
+                cacheEvictionPublisher,
+                meterRegistry,
+                Duration.ofSeconds(LOCAL_CACHE_TTL),
+                LOCAL_CACHE_MAXIMUM_SIZE
+        );
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(DEFAULT_CACHE_TTL))
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.json()));
-        return RedisCacheManager.builder(redisConnectionFactory)
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfiguration)
                 .build();
-    }
+        redisCacheManager.afterPropertiesSet();
 
-}
\ No newline at end of file
+        return redisCacheManager;
+    }
+}
@@ -9,11 +9,15 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
-import yuquiz.domain.chatRoom.websocket.RedisSubscriber;
+import yuquiz.common.cache.CacheEvictionPublisher;
+import yuquiz.common.cache.CacheEvictionSubscriber;
+import yuquiz.common.utils.redis.RedisProperties;
+import yuquiz.domain.chatRoom.websocket.ChatMemberRegistry;
+import yuquiz.domain.notification.service.NotificationDispatcher;
+import yuquiz.security.token.blacklist.BlackListTokenFilter;
 
 @Configuration
 public class RedisConfig {
@@ -51,23 +55,17 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(MessageListenerAdapter listenerAdapter,
-                                                                       ChannelTopic channelTopic) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(CacheEvictionSubscriber cacheEvictionSubscriber,
+                                                                       BlackListTokenFilter blackListTokenFilter,
+                                                                       ChatMemberRegistry chatMemberRegistry,
+                                                                       NotificationDispatcher notificationDispatcher) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory());
-        container.addMessageListener(listenerAdapter, channelTopic);
+        // 채팅방 채널(chatroom:{roomId})은 ChatRoomSubscriptionRegistry가 로컬 구독자가 있는 방만 동적으로 구독
+        container.addMessageListener(cacheEvictionSubscriber, new ChannelTopic(CacheEvictionPublisher.CACHE_EVICTION_TOPIC));
+        container.addMessageListener(blackListTokenFilter, new ChannelTopic(BlackListTokenFilter.BLACKLIST_TOPIC));
+        container.addMessageListener(chatMemberRegistry, new ChannelTopic(ChatMemberRegistry.KICK_TOPIC));
+        container.addMessageListener(notificationDispatcher, new ChannelTopic(RedisProperties.NOTIFICATION_TOPIC));
         return container;
     }
-
-    /* 구독자 메시지 수신을 위한 어댑터 */
-    @Bean
-    public MessageListenerAdapter listenerAdapter(RedisSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber, "onMessage");
-    }
-
-    /* 채널 주제 등록 */
-    @Bean
-    public ChannelTopic channelTopic() {
-        return new ChannelTopic("chatroom");
-    }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
 import yuquiz.domain.chatRoom.websocket.error.StompErrorHandler;
 import yuquiz.domain.chatRoom.websocket.interceptor.SocketChannelInterceptor;
 
@@ -17,10 +19,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final SocketChannelInterceptor socketChannelInterceptor;
     private final StompErrorHandler stompErrorHandler;
+    private final ChatBrokerConfig chatBrokerConfig;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        if (chatBrokerConfig.isRelay()) {
+            ChatBrokerConfig.Relay relay = chatBrokerConfig.getRelay();
+
+            config.enableStompBrokerRelay(chatBrokerConfig.getBrokerPrefix())
+                    .setRelayHost(relay.getHost())
+                    .setRelayPort(relay.getPort())
+                    .setClientLogin(relay.getLogin())
+                    .setClientPasscode(relay.getPasscode())
+                    .setSystemLogin(relay.getLogin())
+                    .setSystemPasscode(relay.getPasscode());
+        } else {
+            config.enableSimpleBroker(chatBrokerConfig.getBrokerPrefix());
+        }
         config.setApplicationDestinationPrefixes("/pub");
     }
 
@@ -34,6 +49,26 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(socketChannelInterceptor);
+        configurePool(registration, chatBrokerConfig.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configurePool(registration, chatBrokerConfig.getOutbound());
     }
 
-}
\ No newline at end of file
+    /* 세션별 전송 대기 버퍼와 전송 시간 제한, 넘으면 느린 클라이언트의 연결을 끊어 채팅방 전체가 밀리지 않도록 함 */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(chatBrokerConfig.getSendTimeLimit())
+                .setSendBufferSizeLimit(chatBrokerConfig.getSendBufferSizeLimit())
+                .setMessageSizeLimit(chatBrokerConfig.getMessageSizeLimit());
+    }
+
+    private void configurePool(ChannelRegistration registration, ChatBrokerConfig.Pool pool) {
+        registration.taskExecutor()
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaxPoolSize())
+                .queueCapacity(pool.getQueueCapacity());
+    }
+}
@@ -44,6 +44,68 @@ public interface ChatApi {
     })
     ResponseEntity<?> getDailyMessage(@PathVariable Long roomId);
 
+    @Operation(summary = "최근 채팅 내역 조회", description = "채팅방 입장 시 가장 최근 메시지를 size개(최대 100개) 조회하는 API. " +
+            "더 이전 메시지는 응답의 nextCursor로 이전 채팅 내역 조회 API를 이용합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "최근 채팅 내역 조회 성공",
+                    content = @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = """
+                                    {
+                                        "messages": [
+                                            {
+                                                "roomId": "1",
+                                                "sender": "테스터1",
+                                                "userId": 1,
+                                                "content": "내용1",
+                                                "createdAt": "2024-11-05T10:15:30",
+                                                "type": "TALK"
+                                            }
+                                        ],
+                                        "nextCursor": "MjAyNC0xMS0wNVQxMDoxNTozMHwxMjM",
+                                        "hasNext": true
+                                    }
+                                    """)
+                    }))
+    })
+    ResponseEntity<?> getRecentMessages(@PathVariable Long roomId,
+                                        @RequestParam(value = "size", defaultValue = "50") Integer size);
+
+    @Operation(summary = "이전 채팅 내역 조회", description = "커서 기반으로 이전 채팅 내역을 조회하는 API. " +
+            "처음에는 cursor 없이 요청하면 가장 최근 메시지부터, 이후에는 응답의 nextCursor를 넘기면 그 이전 메시지를 size개씩 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이전 채팅 내역 조회 성공",
+                    content = @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = """
+                                    {
+                                        "messages": [
+                                            {
+                                                "roomId": "1",
+                                                "sender": "테스터1",
+                                                "userId": 1,
+                                                "content": "내용1",
+                                                "createdAt": "2024-11-05T10:15:30",
+                                                "type": "TALK"
+                                            }
+                                        ],
+                                        "nextCursor": "MjAyNC0xMS0wNVQxMDoxNTozMHwxMjM",
+                                        "hasNext": true
+                                    }
+                                    """)
+                    })),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = """
+                                    {
+                                        "status": 400,
+                                        "message": "유효하지 않은 커서입니다."
+                                    }
+                                    """)
+                    }))
+    })
+    ResponseEntity<?> getMessageHistory(@PathVariable Long roomId,
+                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                        @RequestParam(value = "size", defaultValue = "50") Integer size);
+
     @Operation(summary = "날짜별 채팅 내역 조회", description = "날짜별 채팅 내역을 조회하는 API." +
             "2024-10-10 식으로 주면 됩니다. - 사용자가 위로 스크롤하면 자동으로 날짜에 대해 계산하여 보내주는 형식.")
     @ApiResponses({
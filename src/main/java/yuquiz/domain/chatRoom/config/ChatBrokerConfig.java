@@ -0,0 +1,61 @@
+package yuquiz.domain.chatRoom.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP broker 설정.
+ * simple: 서버 내장 broker + Redis pub/sub으로 서버 간 전달,
+ * relay: 외부 STOMP broker(RabbitMQ, ActiveMQ 등)로 중계하며 서버 간 전달도 broker가 담당.
+ * RabbitMQ STOMP 플러그인은 /topic, /queue, /exchange, /amq/queue 경로만 받으므로
+ * relay 모드에서는 채팅방 구독 경로로 /sub/{roomId} 대신 /topic/chatroom.{roomId}를 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.broker")
+@Getter @Setter
+public class ChatBrokerConfig {
+
+    private Mode mode = Mode.SIMPLE;
+    private Relay relay = new Relay();
+    private Pool inbound = new Pool();
+    private Pool outbound = new Pool();
+
+    private int sendTimeLimit = 10 * 1000;            // 한 세션으로 전송이 이 시간(ms) 이상 막히면 연결 종료
+    private int sendBufferSizeLimit = 512 * 1024;     // 세션별 전송 대기 버퍼(bytes), 넘으면 연결 종료
+    private int messageSizeLimit = 64 * 1024;
+
+    public boolean isRelay() {
+        return mode == Mode.RELAY;
+    }
+
+    /* broker가 처리할 구독 경로 prefix */
+    public String getBrokerPrefix() {
+        return isRelay() ? "/topic" : "/sub";
+    }
+
+    /* 채팅방 구독 경로, relay 모드는 /topic/chatroom.{roomId} */
+    public String getRoomDestination(String roomId) {
+        return isRelay() ? "/topic/chatroom." + roomId : "/sub/" + roomId;
+    }
+
+    public enum Mode {
+        SIMPLE, RELAY
+    }
+
+    @Getter @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String login = "guest";
+        private String passcode = "guest";
+    }
+
+    @Getter @Setter
+    public static class Pool {
+        private int corePoolSize = 8;
+        private int maxPoolSize = 32;
+        private int queueCapacity = 1000;
+    }
+}
@@ -1,5 +1,7 @@
 package yuquiz.domain.chatRoom.controller;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -25,7 +27,26 @@ public class ChatController implements ChatApi {
     @GetMapping("/{roomId}/messages/daily")
     public ResponseEntity<?> getDailyMessage(@PathVariable Long roomId) {
 
-        return ResponseEntity.ok(chatMessageService.fetchMessagesFromRedis(roomId));
+        return ResponseEntity.ok(chatMessageService.fetchDailyMessages(roomId));
+    }
+
+    /* 최근 메시지 불러오기 (채팅방 입장 시) */
+    @Override
+    @GetMapping("/{roomId}/messages/recent")
+    public ResponseEntity<?> getRecentMessages(@PathVariable Long roomId,
+                                               @RequestParam(value = "size", defaultValue = "50") @Min(1) @Max(100) Integer size) {
+
+        return ResponseEntity.ok(chatMessageService.fetchRecentMessages(roomId, size));
+    }
+
+    /* 이전 메시지 불러오기 (커서 기반) */
+    @Override
+    @GetMapping("/{roomId}/messages/history")
+    public ResponseEntity<?> getMessageHistory(@PathVariable Long roomId,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "size", defaultValue = "50") @Min(1) @Max(100) Integer size) {
+
+        return ResponseEntity.ok(chatMessageService.fetchMessagesBefore(roomId, cursor, size));
     }
 
     /* 날짜별로 메시지 불렁오기 */
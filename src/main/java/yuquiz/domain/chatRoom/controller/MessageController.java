@@ -2,8 +2,6 @@ package yuquiz.domain.chatRoom.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -18,27 +16,23 @@ import java.time.LocalDateTime;
 @Slf4j
 public class MessageController {
 
-    private final RedisTemplate redisTemplate;
-    private final ChannelTopic channelTopic;
     private final ChatMessageService chatMessageService;
 
-    /* 방에 메시지 전송 */
+    /* 방에 메시지 전송 (한 번 직렬화한 bytes를 저장과 발행에 함께 사용, Redis 왕복 한 번) */
     @MessageMapping("/message/{roomId}")
-    public Message sendMessage(@DestinationVariable Long roomId, Message message, StompHeaderAccessor accessor) {
+    public void sendMessage(@DestinationVariable Long roomId, Message message, StompHeaderAccessor accessor) {
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
         Message customMessage = Message.from(message, String.valueOf(LocalDateTime.now()), userId);
 
-        chatMessageService.saveMessageInRedis(roomId, customMessage);
-        redisTemplate.convertAndSend(channelTopic.getTopic(), customMessage);
-        return message;
+        byte[] payload = chatMessageService.encodeMessage(customMessage);
+        chatMessageService.saveAndPublishMessage(roomId, payload);
     }
 
     /* 채팅방에 유저가 입장했을 때의 메시지 처리 */
     @MessageMapping("/user/{roomId}")
-    public Message addUser(Message message) {
+    public void addUser(@DestinationVariable Long roomId, Message message) {
 
-        redisTemplate.convertAndSend(channelTopic.getTopic(), message);
-        return message;
+        chatMessageService.publishMessage(roomId, chatMessageService.encodeMessage(message));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package yuquiz.domain.chatRoom.converter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import yuquiz.domain.chatRoom.dto.Message;
+
+import java.io.IOException;
+
+/**
+ * 채팅 메시지를 한 번만 JSON bytes로 직렬화해 Redis list, pub/sub, STOMP payload에 그대로 사용.
+ * 이전에 GenericJackson2JsonRedisSerializer로 저장된 메시지의 "@class" 필드는 무시하고 읽는다.
+ */
+@Component
+public class ChatMessageCodec {
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public ChatMessageCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(Message.class);
+        this.reader = objectMapper.readerFor(Message.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public byte[] encode(Message message) {
+        try {
+            return writer.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode chat message", e);
+        }
+    }
+
+    public Message decode(byte[] payload) {
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode chat message", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package yuquiz.domain.chatRoom.dto;
 
+import java.time.LocalDateTime;
+
 public record Message(
         String roomId,
         String sender,
@@ -18,4 +20,9 @@ public record Message(
                 message.type
         );
     }
+
+    /* 전송 시각, 공백 구분 형식("2024-11-05 12:00:00")도 허용 */
+    public LocalDateTime toSentAt() {
+        return LocalDateTime.parse(createdAt.replace(' ', 'T'));
+    }
 }
@@ -0,0 +1,46 @@
+package yuquiz.domain.chatRoom.dto;
+
+import yuquiz.common.exception.CustomException;
+import yuquiz.domain.chatRoom.entity.ChatMessage;
+import yuquiz.domain.chatRoom.exception.ChatRoomExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 이전 메시지 조회에서 마지막으로 내려준(가장 오래된) 메시지의 위치.
+ * (전송 시각, id) 순서로 그보다 앞선 메시지를 찾으며, 클라이언트에는 Base64로 인코딩한 문자열로 전달된다.
+ */
+public record MessageCursor(
+        LocalDateTime sentAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static MessageCursor of(ChatMessage chatMessage) {
+        return new MessageCursor(chatMessage.getSentAt(), chatMessage.getId());
+    }
+
+    /* 클라이언트가 보낸 커서 해석, 형식이 맞지 않으면 예외 */
+    public static MessageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+
+            if (parts.length != 2) {
+                throw new CustomException(ChatRoomExceptionCode.INVALID_CURSOR);
+            }
+
+            return new MessageCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new CustomException(ChatRoomExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sentAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
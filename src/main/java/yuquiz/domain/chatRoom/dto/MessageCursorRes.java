@@ -0,0 +1,22 @@
+package yuquiz.domain.chatRoom.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MessageCursorRes(
+        List<Message> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static MessageCursorRes of(List<Message> messages,
+                                      String nextCursor,
+                                      boolean hasNext) {
+        return MessageCursorRes.builder()
+                .messages(messages)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -1,52 +1,67 @@
 package yuquiz.domain.chatRoom.entity;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-import yuquiz.common.entity.BaseTimeEntity;
-import yuquiz.domain.chatRoom.converter.MessageListConverter;
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageType;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
 @Entity
-public class ChatMessage extends BaseTimeEntity {
+@Table(name = "ChatRoomMessage", indexes = {
+        @Index(name = "idx_chat_message_room_sent", columnList = "chat_room_id, sent_at, id")
+})
+public class ChatMessage {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Convert(converter = MessageListConverter.class)
-    private List<Message> messages;
-
-    @Column(name = "send_at")
-    @CreatedDate
-    private LocalDateTime sendAt;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chat_room_id")
     private ChatRoom chatRoom;
 
+    @Column(name = "user_id")
+    private Long userId;
+
+    private String sender;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MessageType type;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
     @Builder
-    public ChatMessage(ChatRoom chatRoom, List<Message> messages) {
+    public ChatMessage(ChatRoom chatRoom, Long userId, String sender, String content, MessageType type, LocalDateTime sentAt) {
         this.chatRoom = chatRoom;
-        this.messages = messages;
+        this.userId = userId;
+        this.sender = sender;
+        this.content = content;
+        this.type = type;
+        this.sentAt = sentAt;
+    }
+
+    public Message toMessage(Long roomId) {
+        return new Message(String.valueOf(roomId), sender, userId, content, sentAt.toString(), type);
     }
 }
@@ -0,0 +1,58 @@
+package yuquiz.domain.chatRoom.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import yuquiz.common.entity.BaseTimeEntity;
+import yuquiz.domain.chatRoom.converter.MessageListConverter;
+import yuquiz.domain.chatRoom.dto.Message;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하루치 메시지 목록을 하나의 컬럼에 직렬화해 저장하던 기존 형식.
+ * ChatMessageMigrator가 메시지 단위 행(ChatMessage)으로 옮긴 뒤 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+@Table(name = "ChatMessage")
+public class DailyChatMessage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Convert(converter = MessageListConverter.class)
+    private List<Message> messages;
+
+    @Column(name = "send_at")
+    @CreatedDate
+    private LocalDateTime sendAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id")
+    private ChatRoom chatRoom;
+
+    @Builder
+    public DailyChatMessage(ChatRoom chatRoom, List<Message> messages) {
+        this.chatRoom = chatRoom;
+        this.messages = messages;
+    }
+}
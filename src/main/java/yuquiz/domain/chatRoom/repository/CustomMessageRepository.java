@@ -1,10 +1,16 @@
 package yuquiz.domain.chatRoom.repository;
 
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageCursor;
+import yuquiz.domain.chatRoom.entity.ChatMessage;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface CustomMessageRepository {
     List<Message> findMessagesByChatRoomIdAndDate(Long roomId, LocalDate date);
+
+    List<ChatMessage> findMessagesBefore(Long roomId, MessageCursor cursor, int limit);
+
+    void insertMessages(Long roomId, List<Message> messages);
 }
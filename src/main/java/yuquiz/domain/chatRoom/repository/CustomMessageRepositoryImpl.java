@@ -1,36 +1,80 @@
 package yuquiz.domain.chatRoom.repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageCursor;
+import yuquiz.domain.chatRoom.entity.ChatMessage;
 import yuquiz.domain.chatRoom.entity.QChatMessage;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class CustomMessageRepositoryImpl implements CustomMessageRepository {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO ChatRoomMessage (chat_room_id, user_id, sender, content, type, sent_at) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final QChatMessage chatMessage = QChatMessage.chatMessage;
 
-    public CustomMessageRepositoryImpl(EntityManager entityManager) {
+    public CustomMessageRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public List<Message> findMessagesByChatRoomIdAndDate(Long roomId, LocalDate date) {
-        QChatMessage chatMessage = QChatMessage.chatMessage;
 
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1);
 
-        return jpaQueryFactory.select(chatMessage.messages)
-                .from(chatMessage)
+        return jpaQueryFactory.selectFrom(chatMessage)
                 .where(chatMessage.chatRoom.id.eq(roomId)
-                        .and(chatMessage.sendAt.between(startOfDay, endOfDay)))
+                        .and(chatMessage.sentAt.goe(startOfDay))
+                        .and(chatMessage.sentAt.lt(endOfDay)))
+                .orderBy(chatMessage.sentAt.asc(), chatMessage.id.asc())
                 .fetch()
                 .stream()
-                .flatMap(List::stream)
+                .map(message -> message.toMessage(roomId))
                 .collect(Collectors.toList());
     }
+
+    /* (chat_room_id, sent_at, id) 인덱스를 역순으로 따라가며 커서 이전 메시지를 limit개만 조회 */
+    @Override
+    public List<ChatMessage> findMessagesBefore(Long roomId, MessageCursor cursor, int limit) {
+        return jpaQueryFactory.selectFrom(chatMessage)
+                .where(chatMessage.chatRoom.id.eq(roomId), beforeCursor(cursor))
+                .orderBy(chatMessage.sentAt.desc(), chatMessage.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /* 메시지 단위 행을 JDBC batch로 한 번에 저장 */
+    @Override
+    public void insertMessages(Long roomId, List<Message> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, roomId);
+            ps.setObject(2, message.userId());
+            ps.setString(3, message.sender());
+            ps.setString(4, message.content());
+            ps.setString(5, message.type() != null ? message.type().name() : null);
+            ps.setTimestamp(6, Timestamp.valueOf(message.toSentAt()));
+        });
+    }
+
+    private BooleanExpression beforeCursor(MessageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return chatMessage.sentAt.lt(cursor.sentAt())
+                .or(chatMessage.sentAt.eq(cursor.sentAt()).and(chatMessage.id.lt(cursor.id())));
+    }
 }
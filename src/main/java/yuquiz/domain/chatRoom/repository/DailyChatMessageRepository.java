@@ -0,0 +1,11 @@
+package yuquiz.domain.chatRoom.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import yuquiz.domain.chatRoom.entity.DailyChatMessage;
+
+import java.util.List;
+
+public interface DailyChatMessageRepository extends JpaRepository<DailyChatMessage, Long> {
+
+    List<DailyChatMessage> findTop100ByIdGreaterThanOrderByIdAsc(Long id);
+}
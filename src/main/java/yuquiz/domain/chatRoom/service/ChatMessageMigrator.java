@@ -0,0 +1,121 @@
+package yuquiz.domain.chatRoom.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.entity.DailyChatMessage;
+import yuquiz.domain.chatRoom.repository.ChatMessageRepository;
+import yuquiz.domain.chatRoom.repository.DailyChatMessageRepository;
+
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static yuquiz.common.utils.redis.RedisProperties.MIGRATION_LOCK_KEY;
+
+/**
+ * 하루치 메시지를 하나의 행에 저장하던 기존 데이터(DailyChatMessage)를 메시지 단위 행으로 옮긴다.
+ * 행 하나씩 트랜잭션으로 옮기고 원본을 삭제하므로 중간에 중단되어도 다시 실행하면 이어서 진행된다.
+ * 여러 서버가 동시에 시작해도 같은 행을 중복으로 옮기지 않도록 Redis 락을 가진 서버 하나만 실행한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageMigrator {
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final DailyChatMessageRepository dailyChatMessageRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisUtil redisUtil;
+    private final boolean enabled;
+    private final long lockTimeout;
+
+    public ChatMessageMigrator(DailyChatMessageRepository dailyChatMessageRepository,
+                               ChatMessageRepository chatMessageRepository,
+                               TransactionTemplate transactionTemplate,
+                               RedisUtil redisUtil,
+                               @Value("${chat.migration.enabled}") boolean enabled,
+                               @Value("${chat.migration.lock-timeout}") long lockTimeout) {
+        this.dailyChatMessageRepository = dailyChatMessageRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.redisUtil = redisUtil;
+        this.enabled = enabled;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        if (!redisUtil.setIfAbsent(MIGRATION_LOCK_KEY, INSTANCE_ID, lockTimeout)) {
+            log.info("Chat message migration is already running on another instance");
+            return;
+        }
+
+        try {
+            migrateLocked();
+        } finally {
+            redisUtil.deleteIfEquals(MIGRATION_LOCK_KEY, INSTANCE_ID);
+        }
+    }
+
+    private void migrateLocked() {
+        long lastId = 0;
+        int migrated = 0;
+
+        List<DailyChatMessage> dailyMessages;
+        while (!(dailyMessages = dailyChatMessageRepository.findTop100ByIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+            // batch마다 락 연장, 만료되어 다른 서버가 가져갔으면 중단
+            if (!redisUtil.expireIfEquals(MIGRATION_LOCK_KEY, INSTANCE_ID, lockTimeout)) {
+                log.warn("Lost chat message migration lock after {} rows, stopping", migrated);
+                return;
+            }
+
+            for (DailyChatMessage dailyMessage : dailyMessages) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> migrate(dailyMessage));
+                    migrated++;
+                } catch (RuntimeException e) {
+                    log.error("Failed to migrate chat message {}: {}", dailyMessage.getId(), e.getMessage());
+                }
+                lastId = dailyMessage.getId();
+            }
+        }
+
+        log.info("Migrated {} daily chat messages", migrated);
+    }
+
+    private void migrate(DailyChatMessage dailyMessage) {
+        Long roomId = dailyMessage.getChatRoom().getId();
+
+        // 전송 시각이 없거나 형식이 다른 메시지는 원본 행의 저장 시각 사용
+        List<Message> messages = dailyMessage.getMessages().stream()
+                .map(message -> hasValidSentAt(message)
+                        ? message
+                        : Message.from(message, dailyMessage.getSendAt().toString(), message.userId()))
+                .collect(Collectors.toList());
+
+        chatMessageRepository.insertMessages(roomId, messages);
+        dailyChatMessageRepository.delete(dailyMessage);
+    }
+
+    private boolean hasValidSentAt(Message message) {
+        try {
+            return message.createdAt() != null && message.toSentAt() != null;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+}
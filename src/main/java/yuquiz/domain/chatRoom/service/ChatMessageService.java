@@ -1,25 +1,39 @@
 package yuquiz.domain.chatRoom.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import yuquiz.common.exception.CustomException;
 import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+import yuquiz.domain.chatRoom.converter.ChatMessageCodec;
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageCursor;
+import yuquiz.domain.chatRoom.dto.MessageCursorRes;
 import yuquiz.domain.chatRoom.entity.ChatMessage;
-import yuquiz.domain.chatRoom.entity.ChatRoom;
 import yuquiz.domain.chatRoom.exception.ChatRoomExceptionCode;
 import yuquiz.domain.chatRoom.repository.ChatMessageRepository;
 import yuquiz.domain.chatRoom.repository.ChatRoomRepository;
+import yuquiz.domain.chatRoom.websocket.ChatBroadcaster;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+import static yuquiz.common.utils.redis.RedisProperties.ACTIVE_ROOM_KEY;
+import static yuquiz.common.utils.redis.RedisProperties.CHAT_TOPIC_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.DEAD_MESSAGE_EXPIRATION_TIME;
+import static yuquiz.common.utils.redis.RedisProperties.DEAD_MESSAGE_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_EXPIRATION_TIME;
 import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.RECENT_MESSAGE_LIMIT;
+import static yuquiz.common.utils.redis.RedisProperties.RECENT_MESSAGE_PREFIX;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ChatMessageService {
@@ -27,26 +41,66 @@ public class ChatMessageService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final RedisUtil redisUtil;
+    private final ChatMessageCodec chatMessageCodec;
+    private final ChatBrokerConfig chatBrokerConfig;
+    private final ChatBroadcaster chatBroadcaster;
+    private final TransactionTemplate transactionTemplate;
 
-    /* 일간 메시지 db에 저장 */
+    /* 메시지 db에 저장 (메시지 단위 행으로 batch insert) */
+    @Transactional
     public void saveMessageInDB(Long roomId, List<Message> messages) {
 
-        ChatRoom foundChatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new CustomException(ChatRoomExceptionCode.INVALID_ID));
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new CustomException(ChatRoomExceptionCode.INVALID_ID);
+        }
+
+        chatMessageRepository.insertMessages(roomId, messages);
+    }
 
-        chatMessageRepository.save(
-                ChatMessage.builder()
-                        .chatRoom(foundChatRoom)
-                        .messages(messages)
-                        .build()
-        );
+    /* 메시지 직렬화 (저장, 발행, STOMP 전송에 같은 bytes 사용) */
+    public byte[] encodeMessage(Message message) {
+        return chatMessageCodec.encode(message);
     }
 
-    /* 메시지 redis에 저장 */
-    public void saveMessageInRedis(Long roomId, Message message) {
+    /**
+     * 직렬화된 메시지를 redis에 저장하고 채팅방 채널로 발행.
+     * 저장(RPUSH), 최근 메시지 list 갱신(RPUSH + LTRIM + EXPIRE), 저장 대기 채팅방 등록(SADD), 발행(PUBLISH)을
+     * pipeline으로 묶어 한 번의 왕복으로 처리한다.
+     * 같은 연결에서 순서대로 실행되므로 구독자는 항상 list에 저장된 뒤의 메시지를 받는다.
+     * relay 모드에서는 Redis로 발행하지 않고 외부 broker로 바로 전송한다.
+     */
+    public void saveAndPublishMessage(Long roomId, byte[] payload) {
 
-        String key = MESSAGE_PREFIX + roomId;
-        redisUtil.setList(key, message);
+        byte[] key = redisUtil.rawKey(MESSAGE_PREFIX + roomId);
+        byte[] recentKey = redisUtil.rawKey(RECENT_MESSAGE_PREFIX + roomId);
+        byte[] activeRoomKey = redisUtil.rawKey(ACTIVE_ROOM_KEY);
+        byte[] member = redisUtil.rawValue(roomId);
+        byte[] channel = redisUtil.rawKey(CHAT_TOPIC_PREFIX + roomId);
+        boolean relay = chatBrokerConfig.isRelay();
+
+        redisUtil.executePipelined(connection -> {
+            connection.listCommands().rPush(key, payload);     // 저장 대기 list는 DB에 저장되기 전에 사라지지 않도록 만료시간 없음
+            connection.listCommands().rPush(recentKey, payload);
+            connection.listCommands().lTrim(recentKey, -(RECENT_MESSAGE_LIMIT + 1), -1);     // 최대 조회 개수 + 1개 유지 (이전 메시지 여부 판단용)
+            connection.keyCommands().expire(recentKey, MESSAGE_EXPIRATION_TIME);
+            connection.setCommands().sAdd(activeRoomKey, member);
+            if (!relay) {
+                connection.publish(channel, payload);
+            }
+        });
+
+        if (relay) {
+            chatBroadcaster.sendToRoom(String.valueOf(roomId), payload);
+        }
+    }
+
+    /* 직렬화된 메시지를 채팅방으로 전송 (simple 모드는 Redis 채널, relay 모드는 외부 broker) */
+    public void publishMessage(Long roomId, byte[] payload) {
+        if (chatBrokerConfig.isRelay()) {
+            chatBroadcaster.sendToRoom(String.valueOf(roomId), payload);
+            return;
+        }
+        redisUtil.publishRaw(CHAT_TOPIC_PREFIX + roomId, payload);
     }
 
     /* Redis에 저장된 메시지 불러오기 */
@@ -54,29 +108,188 @@ public class ChatMessageService {
 
         String key = MESSAGE_PREFIX + roomId;
 
-        return redisUtil.getList(key).stream()
-                .map(obj -> (Message) obj)
+        return redisUtil.getRawList(key, 0, -1).stream()
+                .map(chatMessageCodec::decode)
                 .collect(Collectors.toList());
     }
 
-    /* Redis에 저장된 모든 채팅방 id 및 메시지 불러오기 */
-    public Map<Long, List<Message>> getAllMessagesGroupedByRoomId() {
-        Map<Long, List<Message>> messagesByRoomId = new HashMap<>();
-        List<Long> roomIds = redisUtil.getRoomIds();
+    /**
+     * Redis에 쌓인 메시지를 앞에서부터 batchSize개만 DB에 저장하고 Redis에서 제거.
+     * DB 저장이 끝난 뒤에 제거하므로 그 사이에 실패하면 다음 주기에 다시 저장된다.
+     * 저장 중 새로 들어온 메시지는 list 뒤에 추가되므로 함께 지워지지 않는다.
+     * 읽을 수 없는 메시지와 삭제된 채팅방의 메시지는 dead letter list로 옮겨 뒤의 메시지 저장을 막지 않는다.
+     */
+    public int drainMessages(Long roomId, int batchSize) {
+
+        String key = MESSAGE_PREFIX + roomId;
+        List<byte[]> payloads = redisUtil.getRawList(key, 0, batchSize - 1);
+
+        if (payloads.isEmpty()) {
+            return 0;
+        }
 
-        for (Long roomId : roomIds) {
-            List<Message> messages = fetchMessagesFromRedis(roomId);
-            messagesByRoomId.put(roomId, messages);
+        if (!chatRoomRepository.existsById(roomId)) {
+            log.error("Chat room {} no longer exists, moving {} messages to dead letter", roomId, payloads.size());
+            moveToDeadLetter(roomId, payloads);
+        } else {
+            List<Message> messages = new ArrayList<>(payloads.size());
+            List<byte[]> invalid = new ArrayList<>();
+            for (byte[] payload : payloads) {
+                try {
+                    messages.add(chatMessageCodec.decode(payload));
+                } catch (IllegalArgumentException e) {
+                    invalid.add(payload);
+                }
+            }
 
-            deleteMessage(roomId);
+            // self-invocation은 @Transactional이 적용되지 않으므로 TransactionTemplate으로 batch insert를 묶음
+            if (!messages.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> chatMessageRepository.insertMessages(roomId, messages));
+            }
+            if (!invalid.isEmpty()) {
+                log.error("Failed to decode {} messages of room {}, moving them to dead letter", invalid.size(), roomId);
+                moveToDeadLetter(roomId, invalid);
+            }
         }
 
-        return messagesByRoomId;
+        redisUtil.removeListHead(key, payloads.size());
+
+        return payloads.size();
+    }
+
+    /* 저장할 수 없는 메시지를 원본 bytes 그대로 보관 (확인용, 일정 기간 뒤 만료) */
+    private void moveToDeadLetter(Long roomId, List<byte[]> payloads) {
+
+        byte[] deadKey = redisUtil.rawKey(DEAD_MESSAGE_PREFIX + roomId);
+
+        redisUtil.executePipelined(connection -> {
+            connection.listCommands().rPush(deadKey, payloads.toArray(byte[][]::new));
+            connection.keyCommands().expire(deadKey, DEAD_MESSAGE_EXPIRATION_TIME);
+        });
     }
 
-    private void deleteMessage(Long roomId) {
+    /* 저장 대기 중인 메시지가 없으면 채팅방 목록에서 제거 */
+    public void deactivateRoomIfEmpty(Long roomId) {
+
         String key = MESSAGE_PREFIX + roomId;
-        redisUtil.del(key);
+        if (redisUtil.getListSize(key) > 0) {
+            return;
+        }
+
+        redisUtil.removeSet(ACTIVE_ROOM_KEY, roomId);
+
+        // 제거하는 사이에 새 메시지가 들어왔으면 다시 등록
+        if (redisUtil.getListSize(key) > 0) {
+            redisUtil.addSet(ACTIVE_ROOM_KEY, roomId);
+        }
+    }
+
+    /* Redis에 남아 있는 메시지 list를 채팅방 목록에 등록 (목록 도입 이전 데이터) */
+    public void registerPendingRooms() {
+        redisUtil.scan(MESSAGE_PREFIX + "*", 1000, key ->
+                redisUtil.addSet(ACTIVE_ROOM_KEY, Long.valueOf(key.substring(MESSAGE_PREFIX.length()))));
+    }
+
+    /* 오늘 메시지 불러오기 (DB에 저장된 메시지 + 아직 저장되지 않은 Redis 메시지) */
+    @Transactional(readOnly = true)
+    public List<Message> fetchDailyMessages(Long roomId) {
+        List<Message> messages = new ArrayList<>(fetchMessagesByDateAndRoomId(roomId, LocalDate.now()));
+        messages.addAll(fetchMessagesFromRedis(roomId));
+        return messages;
+    }
+
+    /**
+     * 커서 이전 메시지를 size개만 불러오기, 가장 최근 메시지부터 거슬러 올라감.
+     * 아직 DB에 저장되지 않은 Redis 메시지는 DB의 모든 메시지보다 최근이므로 먼저 채우고 나머지를 DB에서 채운다.
+     */
+    @Transactional(readOnly = true)
+    public MessageCursorRes fetchMessagesBefore(Long roomId, String cursor, int size) {
+
+        MessageCursor messageCursor = cursor != null ? MessageCursor.decode(cursor) : null;
+        List<Message> pending = fetchPendingMessagesBefore(roomId, messageCursor, size + 1);
+
+        if (pending.size() > size) {
+            List<Message> page = pending.subList(pending.size() - size, pending.size());
+            return MessageCursorRes.of(page, cursorBefore(page), true);
+        }
+
+        int remaining = size - pending.size();
+        List<ChatMessage> chatMessages = chatMessageRepository.findMessagesBefore(roomId, messageCursor, remaining + 1);
+
+        boolean hasNext = chatMessages.size() > remaining;
+        List<ChatMessage> persisted = hasNext ? chatMessages.subList(0, remaining) : chatMessages;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = persisted.isEmpty()
+                    ? cursorBefore(pending)
+                    : MessageCursor.of(persisted.get(persisted.size() - 1)).encode();
+        }
+
+        // 화면에는 오래된 메시지부터 표시
+        List<Message> messages = persisted.stream()
+                .map(chatMessage -> chatMessage.toMessage(roomId))
+                .collect(Collectors.toList());
+        Collections.reverse(messages);
+        messages.addAll(pending);
+
+        return MessageCursorRes.of(messages, nextCursor, hasNext);
+    }
+
+    /**
+     * 최근 메시지 size개 불러오기.
+     * 채팅방마다 LTRIM으로 길이를 제한한 최근 메시지 list에서 한 번의 LRANGE로 size + 1개를 읽어,
+     * size개보다 많으면 그중 최근 size개를 반환하고 더 이전 메시지가 있다고 판단한다.
+     * list에 그만큼 없을 때(대화가 적거나 list가 만료된 채팅방)는 저장 대기 메시지와 DB의 최신 페이지를 합쳐 반환한다.
+     * 더 이전 메시지는 nextCursor로 이전 메시지 조회 API를 이용하며, 아직 DB에 저장되지 않은 메시지도 함께 조회된다.
+     */
+    @Transactional(readOnly = true)
+    public MessageCursorRes fetchRecentMessages(Long roomId, int size) {
+
+        List<Message> recent = redisUtil.getRawList(RECENT_MESSAGE_PREFIX + roomId, -(size + 1), -1).stream()
+                .map(chatMessageCodec::decode)
+                .collect(Collectors.toList());
+
+        if (recent.size() > size) {
+            List<Message> page = recent.subList(1, recent.size());
+            return MessageCursorRes.of(page, cursorBefore(page), true);
+        }
+
+        return fetchMessagesBefore(roomId, null, size);
+    }
+
+    /**
+     * 커서 이전의 저장 대기 메시지를 오래된 순으로 최대 limit개 불러오기 (커서가 없으면 가장 최근 limit개).
+     * 저장 대기 list의 가장 오래된 메시지가 커서보다 최근이면 list 전체를 읽지 않는다.
+     */
+    private List<Message> fetchPendingMessagesBefore(Long roomId, MessageCursor cursor, int limit) {
+
+        String key = MESSAGE_PREFIX + roomId;
+
+        if (cursor == null) {
+            return redisUtil.getRawList(key, -limit, -1).stream()
+                    .map(chatMessageCodec::decode)
+                    .collect(Collectors.toList());
+        }
+
+        List<byte[]> oldest = redisUtil.getRawList(key, 0, 0);
+        if (oldest.isEmpty() || !chatMessageCodec.decode(oldest.get(0)).toSentAt().isBefore(cursor.sentAt())) {
+            return new ArrayList<>();
+        }
+
+        List<Message> before = fetchMessagesFromRedis(roomId).stream()
+                .filter(message -> message.toSentAt().isBefore(cursor.sentAt()))
+                .collect(Collectors.toList());
+
+        return new ArrayList<>(before.subList(Math.max(0, before.size() - limit), before.size()));
+    }
+
+    /**
+     * Redis 메시지에는 DB id가 없으므로 첫 메시지의 전송 시각(sent_at, 마이크로초 단위)을 기준으로 하고,
+     * 전송 시각이 정확히 같은 DB 행까지 포함하도록 id는 최댓값을 사용한다 (누락 대신 중복 허용).
+     */
+    private String cursorBefore(List<Message> messages) {
+        return new MessageCursor(messages.get(0).toSentAt(), Long.MAX_VALUE).encode();
     }
 
     /* 날짜별 메시지 불러오기 */
@@ -3,13 +3,12 @@ package yuquiz.domain.chatRoom.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.chatRoom.websocket.ChatMemberRegistry;
 import yuquiz.domain.studyUser.repository.StudyUserRepository;
 
-import static yuquiz.common.utils.redis.RedisProperties.CHAT_EXPIRATION_TIME;
-import static yuquiz.common.utils.redis.RedisProperties.CHAT_PREFIX;
-import static yuquiz.common.utils.redis.RedisProperties.MEMBER_PREFIX;
-
 @RequiredArgsConstructor
 @Service
 public class ChatRoomService {
@@ -24,25 +23,20 @@ public class ChatRoomService {
         return studyUserRepository.existsByChatRoom_IdAndUser_Id(roomId, userId);
     }
 
-    /* 채팅방 권한 인증 성공 시, redis에 캐싱 */
-    public void saveChatMemberInRedis(Long userId, Long roomId) {
-
-        String key = CHAT_PREFIX + roomId + MEMBER_PREFIX + userId;
-        redisUtil.set(key, userId);
-        redisUtil.expire(key, CHAT_EXPIRATION_TIME);
-    }
-
-    /* 채팅 보낼 때, redis에 캐싱되어 있는 값으로 확인 */
-    public boolean isChatMemberForSendMessage(Long userId, Long roomId) {
-
-        String key = CHAT_PREFIX + roomId + MEMBER_PREFIX + userId;
-        return redisUtil.existed(key);
-    }
-
-    /* 채팅방 퇴장 시 */
-    public void exitChatRoom(Long userId, Long roomId) {
-
-        String key = CHAT_PREFIX + roomId + MEMBER_PREFIX + userId;
-        redisUtil.del(key);
+    /* 강퇴 시, 모든 서버의 WebSocket 세션에서 채팅방 권한 제거 (트랜잭션 중이면 커밋 후 전파) */
+    public void kickChatMember(Long userId, Long roomId) {
+
+        byte[] message = ChatMemberRegistry.toKickMessage(userId, roomId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisUtil.publishRaw(ChatMemberRegistry.KICK_TOPIC, message);
+                }
+            });
+            return;
+        }
+        redisUtil.publishRaw(ChatMemberRegistry.KICK_TOPIC, message);
     }
 }
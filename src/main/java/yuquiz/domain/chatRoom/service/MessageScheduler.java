@@ -1,26 +1,131 @@
 package yuquiz.domain.chatRoom.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.common.utils.redis.RedisUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_LOCK_PREFIX;
+
+/**
+ * Redis에 쌓인 채팅 메시지를 주기적으로 DB에 저장.
+ * 저장은 전용 스레드에서 실행하므로 메시지가 밀려도 공용 스케줄러 스레드(조회수 반영, 블랙리스트 재구성, heartbeat 등)를 붙잡지 않으며,
+ * 이전 주기의 저장이 끝나지 않았으면 이번 주기는 건너뛴다.
+ */
+@Slf4j
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
 public class MessageScheduler {
 
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
     private final ChatMessageService chatMessageService;
+    private final RedisUtil redisUtil;
+    private final int batchSize;
+    private final long lockTimeout;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public MessageScheduler(ChatMessageService chatMessageService,
+                            RedisUtil redisUtil,
+                            @Value("${chat.persist.batch-size}") int batchSize,
+                            @Value("${chat.persist.lock-timeout}") long lockTimeout) {
+        this.chatMessageService = chatMessageService;
+        this.redisUtil = redisUtil;
+        this.batchSize = batchSize;
+        this.lockTimeout = lockTimeout;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-message-persist");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerPendingRooms() {
+        chatMessageService.registerPendingRooms();
+    }
+
+    /* 저장 작업을 전용 스레드에 넘기고 바로 반환 */
+    @Scheduled(fixedDelayString = "${chat.persist.interval}")
+    public void runMessagePersistJob() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 채팅 메시지 저장이 끝나지 않아 이번 주기를 건너뜁니다.");
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    persistPendingMessages();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
 
-    @Scheduled(cron = "0 0 0 * * *")
-    public void runDailyMessageProcessJob() {
+    /**
+     * Redis에 쌓인 메시지를 채팅방별로 batchSize씩 나눠 DB에 저장.
+     * 한 주기 전체와 채팅방 하나 모두 락 만료시간의 절반까지만 저장하고, 남은 메시지와 채팅방은 다음 주기에 저장한다.
+     * 시간이 부족할 때 항상 같은 채팅방이 밀리지 않도록 채팅방 순서는 매번 섞는다.
+     */
+    public void persistPendingMessages() {
 
-        Map<Long, List<Message>> allMessages = chatMessageService.getAllMessagesGroupedByRoomId();
+        long budget = lockTimeout * 1000 / 2;
+        long tickDeadline = System.currentTimeMillis() + budget;
+
+        List<Long> roomIds = new ArrayList<>(redisUtil.getRoomIds());
+        Collections.shuffle(roomIds);
+
+        for (Long roomId : roomIds) {
+            String lockKey = MESSAGE_LOCK_PREFIX + roomId;
+
+            // 여러 서버가 같은 채팅방 메시지를 중복 저장하지 않도록 채팅방 단위 락
+            if (!redisUtil.setIfAbsent(lockKey, INSTANCE_ID, lockTimeout)) {
+                continue;
+            }
+
+            // 락이 만료되기 전에 마지막 batch까지 끝나도록 만료시간의 절반까지만 저장
+            long deadline = Math.min(System.currentTimeMillis() + budget, tickDeadline);
+
+            try {
+                int drained;
+                do {
+                    drained = chatMessageService.drainMessages(roomId, batchSize);
+                } while (drained == batchSize && System.currentTimeMillis() < deadline);     // 남은 메시지가 batchSize보다 적어질 때까지 반복
+
+                chatMessageService.deactivateRoomIfEmpty(roomId);
+            } catch (RuntimeException e) {
+                log.error("Failed to persist chat messages of room {}: {}", roomId, e.getMessage());
+            } finally {
+                redisUtil.deleteIfEquals(lockKey, INSTANCE_ID);     // 만료 후 다른 서버가 잡은 락은 지우지 않음
+            }
+
+            if (System.currentTimeMillis() >= tickDeadline) {
+                break;
+            }
+        }
+    }
 
-        allMessages.forEach(chatMessageService::saveMessageInDB);
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 }
@@ -0,0 +1,27 @@
+package yuquiz.domain.chatRoom.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+
+/* 직렬화된 메시지를 다시 변환하지 않고 채팅방 구독 경로(simple: /sub/{roomId}, relay: /topic/chatroom.{roomId})로 전송 */
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcaster {
+
+    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final ChatBrokerConfig chatBrokerConfig;
+
+    public void sendToRoom(String roomId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        simpMessageSendingOperations.send(chatBrokerConfig.getRoomDestination(roomId),
+                MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,82 @@
+package yuquiz.domain.chatRoom.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 세션별로 메시지를 보낼 수 있는 채팅방 id 집합을 관리.
+ * 집합은 세션 attribute에도 그대로 담기므로 SEND 시에는 네트워크 없이 권한을 확인하고,
+ * 스터디에서 강퇴되면 Redis 채널(chat:kick)로 모든 서버에 알려 해당 사용자의 세션에서 채팅방을 제거한다.
+ */
+@Slf4j
+@Component
+public class ChatMemberRegistry implements MessageListener {
+
+    public static final String KICK_TOPIC = "chat:kick";
+    public static final String CHAT_ROOMS_ATTRIBUTE = "chatRooms";
+
+    private static final String DELIMITER = ":";
+
+    private final Map<Long, Map<String, Set<Long>>> roomsByUser = new ConcurrentHashMap<>();     // userId -> (sessionId -> 채팅방 id)
+    private final Map<String, Long> userBySession = new ConcurrentHashMap<>();
+
+    /* 연결 시 권한이 확인된 채팅방으로 세션 등록, 세션 attribute에 담을 집합 반환 */
+    public Set<Long> register(String sessionId, Long userId, Long roomId) {
+        Set<Long> rooms = ConcurrentHashMap.newKeySet();
+        rooms.add(roomId);
+
+        roomsByUser.computeIfAbsent(userId, key -> new ConcurrentHashMap<>()).put(sessionId, rooms);
+        userBySession.put(sessionId, userId);
+        return rooms;
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        unregister(event.getSessionId());
+    }
+
+    public void unregister(String sessionId) {
+        Long userId = userBySession.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+
+        roomsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /* 현재 서버에 연결된 사용자의 모든 세션에서 채팅방 권한 제거 */
+    public void revoke(Long userId, Long roomId) {
+        Map<String, Set<Long>> sessions = roomsByUser.get(userId);
+        if (sessions != null) {
+            sessions.values().forEach(rooms -> rooms.remove(roomId));
+        }
+    }
+
+    public static byte[] toKickMessage(Long userId, Long roomId) {
+        return (userId + DELIMITER + roomId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* 다른 서버(또는 현재 서버)에서 발행한 강퇴 알림 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(DELIMITER);
+
+        try {
+            revoke(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            log.error("Invalid chat kick message: {}", e.getMessage());
+        }
+    }
+}
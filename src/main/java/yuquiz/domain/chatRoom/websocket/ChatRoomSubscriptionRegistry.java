@@ -0,0 +1,136 @@
+package yuquiz.domain.chatRoom.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static yuquiz.common.utils.redis.RedisProperties.CHAT_TOPIC_PREFIX;
+
+/**
+ * 이 서버에 구독자가 있는 채팅방의 Redis 채널(chatroom:{roomId})만 구독하도록 관리.
+ * STOMP SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 채팅방별 로컬 구독 수를 세고,
+ * 첫 구독자가 생기면 채널을 구독하고 마지막 구독자가 나가면 구독을 해제한다.
+ * relay 모드에서는 외부 broker가 서버 간 전달을 담당하므로 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionRegistry {
+
+    private static final String SUB_PREFIX = "/sub/";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisSubscriber redisSubscriber;
+    private final ChatBrokerConfig chatBrokerConfig;
+
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new HashMap<>();   // sessionId -> (subscriptionId -> roomId)
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+
+        if (chatBrokerConfig.isRelay() || roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (chatBrokerConfig.isRelay()) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (chatBrokerConfig.isRelay()) {
+            return;
+        }
+
+        disconnect(event.getSessionId());
+    }
+
+    public synchronized void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Long previous = subscriptionsBySession
+                .computeIfAbsent(sessionId, key -> new HashMap<>())
+                .put(subscriptionId, roomId);
+
+        if (previous != null) {         // 같은 구독 id로 다시 구독한 경우
+            release(previous);
+        }
+
+        if (subscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            redisMessageListenerContainer.addMessageListener(redisSubscriber, topicOf(roomId));
+            log.debug("Subscribed to chat room channel {}", roomId);
+        }
+    }
+
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = subscriptionsBySession.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            release(roomId);
+        }
+
+        if (subscriptions.isEmpty()) {
+            subscriptionsBySession.remove(sessionId);
+        }
+    }
+
+    public synchronized void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = subscriptionsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    public synchronized boolean hasLocalSubscribers(Long roomId) {
+        return subscriberCounts.containsKey(roomId);
+    }
+
+    public static ChannelTopic topicOf(Long roomId) {
+        return new ChannelTopic(CHAT_TOPIC_PREFIX + roomId);
+    }
+
+    private void release(Long roomId) {
+        Integer remaining = subscriberCounts.computeIfPresent(roomId, (key, count) -> count > 1 ? count - 1 : null);
+
+        if (remaining == null) {
+            redisMessageListenerContainer.removeMessageListener(redisSubscriber, topicOf(roomId));
+            log.debug("Unsubscribed from chat room channel {}", roomId);
+        }
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(SUB_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(destination.substring(SUB_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,35 +1,31 @@
 package yuquiz.domain.chatRoom.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
-import yuquiz.domain.chatRoom.dto.Message;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static yuquiz.common.utils.redis.RedisProperties.CHAT_TOPIC_PREFIX;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate redisTemplate;
-    private final SimpMessageSendingOperations simpMessageSendingOperations;
+    private final ChatBroadcaster chatBroadcaster;
 
+    /* 발행된 JSON bytes를 역직렬화하지 않고 그대로 STOMP payload로 전달 */
     @Override
     public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
-        try {
-            String publishMessage = (String) redisTemplate.getStringSerializer().deserialize(message.getBody());
-
-            Message roomMessage = objectMapper.readValue(publishMessage, Message.class);
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
 
-            simpMessageSendingOperations.convertAndSend("/sub/" + roomMessage.roomId(), roomMessage);
-        } catch (IOException e) {
-            log.error("Failed to convert roomMessageReq to JSON", e);
+        if (!channel.startsWith(CHAT_TOPIC_PREFIX)) {
+            log.error("Unexpected chat channel: {}", channel);
+            return;
         }
+
+        chatBroadcaster.sendToRoom(channel.substring(CHAT_TOPIC_PREFIX.length()), message.getBody());
     }
-}
\ No newline at end of file
+}
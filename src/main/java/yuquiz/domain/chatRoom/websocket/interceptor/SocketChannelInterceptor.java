@@ -13,13 +13,18 @@ import yuquiz.common.exception.JwtBlackListException;
 import yuquiz.common.exception.JwtExpiredException;
 import yuquiz.common.exception.exceptionCode.JwtExceptionCode;
 import yuquiz.common.utils.jwt.JwtProvider;
+import yuquiz.common.utils.jwt.VerifiedToken;
 import yuquiz.domain.chatRoom.exception.ChatRoomExceptionCode;
 import yuquiz.domain.chatRoom.exception.ChatSendException;
 import yuquiz.domain.chatRoom.service.ChatRoomService;
+import yuquiz.domain.chatRoom.websocket.ChatMemberRegistry;
 import yuquiz.security.token.blacklist.BlackListTokenService;
 
+import java.util.Set;
+
 import static yuquiz.common.utils.jwt.JwtProperties.ACCESS_HEADER_VALUE;
 import static yuquiz.common.utils.jwt.JwtProperties.TOKEN_PREFIX;
+import static yuquiz.domain.chatRoom.websocket.ChatMemberRegistry.CHAT_ROOMS_ATTRIBUTE;
 
 @RequiredArgsConstructor
 @Component
@@ -29,6 +34,7 @@ public class SocketChannelInterceptor implements ChannelInterceptor {
     private final JwtProvider jwtProvider;
     private final BlackListTokenService blackListTokenService;
     private final ChatRoomService chatRoomService;
+    private final ChatMemberRegistry chatMemberRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -56,24 +62,28 @@ public class SocketChannelInterceptor implements ChannelInterceptor {
         String accessTokenInHeader = accessor.getFirstNativeHeader(ACCESS_HEADER_VALUE);
         String accessToken = passingAccessToken(accessTokenInHeader);
 
-        isTokenValid(accessToken);
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+        isTokenValid(accessToken, verifiedToken);
 
-        Long userId = jwtProvider.getUserId(accessToken);
+        Long userId = verifiedToken.userId();
         Long roomId = getRoomId(accessor);
 
         if (!chatRoomService.isChatMemberForEnterChat(userId, roomId)) {
             throw new AccessDeniedException(ChatRoomExceptionCode.UNAUTHORIZED_ACTION.getMessage());
         }
 
-        chatRoomService.saveChatMemberInRedis(userId, roomId);
+        // 권한이 확인된 채팅방을 세션에 보관 (강퇴 시 ChatMemberRegistry가 제거)
+        Set<Long> chatRooms = chatMemberRegistry.register(accessor.getSessionId(), userId, roomId);
+        accessor.getSessionAttributes().put(CHAT_ROOMS_ATTRIBUTE, chatRooms);
         accessor.getSessionAttributes().put("userId", userId);
     }
 
+    /* 세션에 보관된 채팅방으로 권한 확인, 네트워크 I/O 없음 */
     private void handleSend(StompHeaderAccessor accessor) {
         Long roomId = getRoomId(accessor);
-        Long userId = getUserId(accessor);
+        Set<Long> chatRooms = getChatRooms(accessor);
 
-        if (!chatRoomService.isChatMemberForSendMessage(userId, roomId)) {
+        if (chatRooms == null || !chatRooms.contains(roomId)) {
             throw new ChatSendException(ChatRoomExceptionCode.CANNOT_SEND_MESSAGE);
         }
     }
@@ -85,27 +95,30 @@ public class SocketChannelInterceptor implements ChannelInterceptor {
             return;
         }
         Long roomId = Long.valueOf(roomIdStr);
-        Long userId = getUserId(accessor);
+        Set<Long> chatRooms = getChatRooms(accessor);
 
-        chatRoomService.exitChatRoom(userId, roomId);
+        if (chatRooms != null) {
+            chatRooms.remove(roomId);
+        }
     }
 
     private Long getRoomId(StompHeaderAccessor accessor) {
         return Long.valueOf(accessor.getFirstNativeHeader("roomId"));
     }
 
-    private Long getUserId(StompHeaderAccessor accessor) {
-        return (Long) accessor.getSessionAttributes().get("userId");
+    @SuppressWarnings("unchecked")
+    private Set<Long> getChatRooms(StompHeaderAccessor accessor) {
+        return (Set<Long>) accessor.getSessionAttributes().get(CHAT_ROOMS_ATTRIBUTE);
     }
 
     /* 토큰 유효성 검사 */
-    private void isTokenValid(String accessToken) {
+    private void isTokenValid(String accessToken, VerifiedToken verifiedToken) {
 
         if (blackListTokenService.existsBlackListCheck(accessToken)) {       // AccessToken이 블랙리스트에 있는지.
             throw new JwtBlackListException(JwtExceptionCode.BLACKLIST_ACCESS_TOKEN);
         }
 
-        if (jwtProvider.isExpired(accessToken)) {   // 만료 되었는지
+        if (verifiedToken.isExpired()) {   // 만료 되었는지
             throw new JwtExpiredException(JwtExceptionCode.ACCESS_TOKEN_EXPIRED);
         }
     }
@@ -11,6 +11,14 @@ import yuquiz.domain.user.entity.User;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(name = "LikedPost",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "likedPost",
+                        columnNames = {"user_id", "post_id"}
+                )
+        }
+)
 public class LikedPost {
 
     @Id
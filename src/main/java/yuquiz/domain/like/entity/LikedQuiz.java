@@ -12,6 +12,14 @@ import yuquiz.domain.user.entity.User;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(name = "LikedQuiz",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "likedQuiz",
+                        columnNames = {"user_id", "quiz_id"}
+                )
+        }
+)
 public class LikedQuiz extends BaseTimeEntity {
 
     @Id
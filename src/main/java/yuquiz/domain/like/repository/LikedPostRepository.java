@@ -3,6 +3,9 @@ package yuquiz.domain.like.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import yuquiz.domain.like.entity.LikedPost;
 import yuquiz.domain.post.entity.Post;
 import yuquiz.domain.user.entity.User;
@@ -16,4 +19,8 @@ public interface LikedPostRepository extends JpaRepository<LikedPost, Long> {
     boolean existsByUserAndPost(User user, Post post);
 
     Optional<LikedPost> findByUser_IdAndPost_Id(Long userId, Long postId);
+
+    @Modifying
+    @Query("delete from LikedPost lp where lp.user.id = :userId and lp.post.id = :postId")
+    int deleteByUser_IdAndPost_Id(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -2,7 +2,11 @@ package yuquiz.domain.like.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import yuquiz.domain.quiz.entity.Quiz;
 import yuquiz.domain.like.entity.LikedQuiz;
 import yuquiz.domain.user.entity.User;
@@ -13,7 +17,12 @@ public interface LikedQuizRepository extends JpaRepository<LikedQuiz, Long> {
 
     boolean existsByUserAndQuiz(User user, Quiz quiz);
 
+    @EntityGraph(attributePaths = "quiz")
     Page<LikedQuiz> findAllByUser(User user, Pageable pageable);
 
     Optional<LikedQuiz> findByUserIdAndQuizId(Long userId, Long quizId);
+
+    @Modifying
+    @Query("delete from LikedQuiz lq where lq.user.id = :userId and lq.quiz.id = :quizId")
+    int deleteByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
 }
@@ -1,6 +1,7 @@
 package yuquiz.domain.like.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -56,16 +57,27 @@ public class LikedPostService {
                 .post(post)
                 .build();
 
-        likedPostRepository.save(likedPost);
-        post.increaseLikeCount();
+        /*
+         * 좋아요 수 UPDATE로 부모 행의 배타 잠금을 먼저 잡은 뒤 INSERT.
+         * INSERT를 먼저 하면 외래 키 검사로 부모 행에 공유 잠금이 걸려, 동시에 들어온 두 요청이
+         * 서로의 공유 잠금 때문에 배타 잠금을 얻지 못하고 교착 상태가 된다.
+         */
+        postRepository.increaseLikeCount(postId);
+
+        // 동시에 들어온 중복 요청은 (user_id, post_id) 유니크 제약으로 걸러내고, 예외로 롤백되어 증가분도 취소됨
+        try {
+            likedPostRepository.saveAndFlush(likedPost);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(PostExceptionCode.ALREADY_LIKED);
+        }
     }
 
     @Transactional
     public void deleteLikePost(Long userId, Long postId) {
 
-        likedPostRepository.findByUser_IdAndPost_Id(userId, postId).ifPresent(lp -> {
-                lp.getPost().decreaseLikeCount();
-                likedPostRepository.delete(lp);
-        });
+        // 실제로 삭제된 경우에만 감소시켜 중복 취소 요청에도 카운트가 어긋나지 않음
+        if (likedPostRepository.deleteByUser_IdAndPost_Id(userId, postId) > 0) {
+            postRepository.decreaseLikeCount(postId);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package yuquiz.domain.like.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +20,9 @@ import yuquiz.domain.user.entity.User;
 import yuquiz.domain.user.exception.UserExceptionCode;
 import yuquiz.domain.user.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class LikedQuizService {
@@ -30,14 +34,20 @@ public class LikedQuizService {
 
     private static final Integer QUIZ_PER_PAGE = 20;
 
+    @Transactional(readOnly = true)
     public Page<QuizSummaryRes> getLikedQuizzes(Long userId, Integer page, LikedQuizSortType sort) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(UserExceptionCode.INVALID_USERID));
 
         Pageable pageable = PageRequest.of(page, QUIZ_PER_PAGE, sort.getSort());
 
-        return likedQuizRepository.findAllByUser(user, pageable)
-                .map(likedQuiz -> QuizSummaryRes.fromEntity(likedQuiz.getQuiz(), triedQuizRepository.findIsSolvedByUserAndQuiz(user, likedQuiz.getQuiz())));
+        Page<Quiz> quizzes = likedQuizRepository.findAllByUser(user, pageable)
+                .map(LikedQuiz::getQuiz);
+
+        List<Long> quizIds = quizzes.map(Quiz::getId).getContent();
+        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(userId, quizIds);
+
+        return quizzes.map(quiz -> QuizSummaryRes.fromEntity(quiz, triedQuizzes.get(quiz.getId())));
     }
 
     @Transactional
@@ -56,17 +66,27 @@ public class LikedQuizService {
                 .quiz(quiz)
                 .build();
 
-        quiz.increaseLikeCount();
+        /*
+         * 좋아요 수 UPDATE로 부모 행의 배타 잠금을 먼저 잡은 뒤 INSERT.
+         * INSERT를 먼저 하면 외래 키 검사로 부모 행에 공유 잠금이 걸려, 동시에 들어온 두 요청이
+         * 서로의 공유 잠금 때문에 배타 잠금을 얻지 못하고 교착 상태가 된다.
+         */
+        quizRepository.increaseLikeCount(quizId);
 
-        likedQuizRepository.save(likedQuiz);
+        // 동시에 들어온 중복 요청은 (user_id, quiz_id) 유니크 제약으로 걸러내고, 예외로 롤백되어 증가분도 취소됨
+        try {
+            likedQuizRepository.saveAndFlush(likedQuiz);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(QuizExceptionCode.ALREADY_LIKED);
+        }
     }
 
     @Transactional
     public void deleteLikeQuiz(Long userId, Long quizId) {
-        likedQuizRepository.findByUserIdAndQuizId(userId, quizId).ifPresent(lq -> {
-            lq.getQuiz().decreaseLikeCount();
-            likedQuizRepository.delete(lq);
-        });
+        // 실제로 삭제된 경우에만 감소시켜 중복 취소 요청에도 카운트가 어긋나지 않음
+        if (likedQuizRepository.deleteByUserIdAndQuizId(userId, quizId) > 0) {
+            quizRepository.decreaseLikeCount(quizId);
+        }
     }
 
 }
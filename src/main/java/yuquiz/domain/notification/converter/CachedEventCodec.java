@@ -0,0 +1,40 @@
+package yuquiz.domain.notification.converter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import yuquiz.domain.notification.dto.CachedEvent;
+
+import java.io.IOException;
+
+/* 알림을 한 번만 JSON bytes로 직렬화해 Redis 재전송 목록과 pub/sub에 그대로 사용 */
+@Component
+public class CachedEventCodec {
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public CachedEventCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(CachedEvent.class);
+        this.reader = objectMapper.readerFor(CachedEvent.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public byte[] encode(CachedEvent event) {
+        try {
+            return writer.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode notification event", e);
+        }
+    }
+
+    public CachedEvent decode(byte[] payload) {
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode notification event", e);
+        }
+    }
+}
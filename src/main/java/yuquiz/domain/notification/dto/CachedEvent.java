@@ -0,0 +1,34 @@
+package yuquiz.domain.notification.dto;
+
+/* 재연결 시 다시 보내기 위해 보관하고 다른 서버로 전파하는 알림, id는 "{userId}_{sequence}" 형식으로 Last-Event-ID에 사용 */
+public record CachedEvent(
+        Long userId,
+
+        String id,
+
+        long sequence,
+
+        long createdAt,
+
+        NotificationRes data
+) {
+    private static final String DELIMITER = "_";
+
+    public static CachedEvent of(Long userId, long sequence, NotificationRes data) {
+        return new CachedEvent(userId, toEventId(userId, sequence), sequence, System.currentTimeMillis(), data);
+    }
+
+    public static String toEventId(Long userId, long sequence) {
+        return userId + DELIMITER + sequence;
+    }
+
+    /* Last-Event-ID에서 sequence 추출, 형식이 맞지 않으면 null */
+    public static Long parseSequence(String eventId) {
+        int index = eventId.lastIndexOf(DELIMITER);
+        try {
+            return Long.parseLong(eventId.substring(index + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package yuquiz.domain.notification.event;
+
+import yuquiz.domain.notification.dto.NotificationType;
+import yuquiz.domain.user.entity.User;
+
+/* 알림 발생 이벤트, 요청 트랜잭션이 커밋된 뒤 NotificationEventListener가 모아서 저장하고 전송 */
+public record NotificationEvent(
+        Long userId,
+
+        NotificationType notificationType,
+
+        String content,
+
+        String url
+) {
+    public static NotificationEvent of(User user, NotificationType notificationType, String content, String url) {
+        return new NotificationEvent(user.getId(), notificationType, content, url);
+    }
+}
@@ -0,0 +1,11 @@
+package yuquiz.domain.notification.repository;
+
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.event.NotificationEvent;
+
+import java.util.List;
+
+public interface CustomNotificationRepository {
+
+    List<NotificationRes> insertNotifications(List<NotificationEvent> events);
+}
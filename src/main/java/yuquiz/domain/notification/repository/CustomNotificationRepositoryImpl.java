@@ -0,0 +1,75 @@
+package yuquiz.domain.notification.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.event.NotificationEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CustomNotificationRepositoryImpl implements CustomNotificationRepository {
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO Notification (title, message, isChecked, redirect_url, user_id, notificationType, created_At, modified_At) " +
+                    "VALUES (?, ?, false, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomNotificationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /* 알림을 JDBC batch로 한 번에 저장하고, 생성된 id로 전송할 응답을 만들어 같은 순서로 반환 */
+    @Override
+    public List<NotificationRes> insertNotifications(List<NotificationEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationEvent event = events.get(i);
+                        ps.setString(1, event.content());
+                        ps.setString(2, event.content());
+                        ps.setString(3, event.url());
+                        ps.setLong(4, event.userId());
+                        if (event.notificationType() != null) {
+                            ps.setInt(5, event.notificationType().ordinal());
+                        } else {
+                            ps.setNull(5, Types.INTEGER);
+                        }
+                        ps.setTimestamp(6, createdAt);
+                        ps.setTimestamp(7, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<NotificationRes> saved = new ArrayList<>(events.size());
+
+        for (int i = 0; i < events.size(); i++) {
+            NotificationEvent event = events.get(i);
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            saved.add(new NotificationRes(id, event.content(), event.content(), false, event.url(), now));
+        }
+        return saved;
+    }
+}
@@ -2,20 +2,23 @@ package yuquiz.domain.notification.repository;
 
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 public interface EmitterRepository {
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    SseEmitter save(Long userId, SseEmitter sseEmitter);
 
-    void saveEventCache(String eventId, Object event);
+    Set<SseEmitter> findAllEmitterByUserId(Long userId);
 
-    Map<String, SseEmitter> findAllEmitterStartWithByUserId(String userId);
+    void forEachEmitter(BiConsumer<Long, SseEmitter> action);
 
-    Map<String, Object> findAllEventCacheStartWithByUserId(String userId);
+    void delete(Long userId, SseEmitter sseEmitter);
 
-    void deleteById(String id);
+    void evict(Long userId, SseEmitter sseEmitter);
 
-    void deleteAllEmitterStartWithId(String userId);
+    void expire(Long userId, SseEmitter sseEmitter);
 
-    void deleteAllEventCacheStartWithId(String userId);
+    void deleteAllEmitterByUserId(Long userId);
+
+    long countEmitters();
 }
@@ -1,66 +1,111 @@
 package yuquiz.domain.notification.repository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
+/**
+ * 사용자 id별 SSE 연결 저장소.
+ * 알림 전송 시 전체 연결을 훑지 않고 사용자 id로 바로 찾으며,
+ * 추가와 제거를 사용자 단위 compute 안에서 처리해 마지막 연결이 끊기면 사용자 항목도 함께 제거된다.
+ */
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository{
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicLong emitterCount = new AtomicLong();
+    private final Counter evictedCounter;
+    private final Counter timedOutCounter;
+
+    public EmitterRepositoryImpl(MeterRegistry meterRegistry) {
+        Gauge.builder("notification.emitters.active", emitterCount, AtomicLong::get)
+                .description("현재 노드에 연결된 SSE 연결 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("notification.emitters.evicted")
+                .description("전송(heartbeat 포함)에 실패해 제거된 SSE 연결 수")
+                .register(meterRegistry);
+        this.timedOutCounter = Counter.builder("notification.emitters.timed_out")
+                .description("시간 초과로 제거된 SSE 연결 수")
+                .register(meterRegistry);
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(Long userId, SseEmitter sseEmitter) {
+        emitters.compute(userId, (id, userEmitters) -> {
+            Set<SseEmitter> saved = userEmitters != null ? userEmitters : ConcurrentHashMap.newKeySet();
+            if (saved.add(sseEmitter)) {
+                emitterCount.incrementAndGet();
+            }
+            return saved;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventId, Object event) {
-        eventCache.put(eventId, event);
+    public Set<SseEmitter> findAllEmitterByUserId(Long userId) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        return userEmitters != null ? Collections.unmodifiableSet(userEmitters) : Collections.emptySet();
+    }
+
+    @Override
+    public void forEachEmitter(BiConsumer<Long, SseEmitter> action) {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> action.accept(userId, emitter)));
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByUserId(String userId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void delete(Long userId, SseEmitter sseEmitter) {
+        remove(userId, sseEmitter);
     }
 
+    /* 전송에 실패한 연결 제거 */
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByUserId(String userId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void evict(Long userId, SseEmitter sseEmitter) {
+        if (remove(userId, sseEmitter)) {
+            evictedCounter.increment();
+        }
     }
 
+    /* 시간이 초과된 연결 제거 */
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void expire(Long userId, SseEmitter sseEmitter) {
+        if (remove(userId, sseEmitter)) {
+            timedOutCounter.increment();
+        }
     }
 
     @Override
-    public void deleteAllEmitterStartWithId(String userId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userId)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteAllEmitterByUserId(Long userId) {
+        Set<SseEmitter> removed = emitters.remove(userId);
+        if (removed != null) {
+            emitterCount.addAndGet(-removed.size());
+        }
     }
 
     @Override
-    public void deleteAllEventCacheStartWithId(String userId) {
-        eventCache.forEach(
-                (key, emitter) ->{
-                    if (key.startsWith(userId)) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public long countEmitters() {
+        return emitterCount.get();
+    }
+
+    /* 완료, 시간 초과, 전송 실패 시 여러 번 호출될 수 있으므로 실제로 제거된 경우에만 연결 수 감소 */
+    private boolean remove(Long userId, SseEmitter sseEmitter) {
+        AtomicBoolean removed = new AtomicBoolean();
+
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            if (userEmitters.remove(sseEmitter)) {
+                emitterCount.decrementAndGet();
+                removed.set(true);
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+        return removed.get();
     }
 }
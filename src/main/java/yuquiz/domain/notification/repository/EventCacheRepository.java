@@ -0,0 +1,16 @@
+package yuquiz.domain.notification.repository;
+
+import yuquiz.domain.notification.dto.CachedEvent;
+import yuquiz.domain.notification.dto.NotificationRes;
+
+import java.util.List;
+
+public interface EventCacheRepository {
+    CachedEvent saveAndPublish(Long userId, NotificationRes notification);
+
+    List<CachedEvent> findAllAfter(Long userId, long lastSequence);
+
+    long getLastSequence();
+
+    void deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,97 @@
+package yuquiz.domain.notification.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.notification.converter.CachedEventCodec;
+import yuquiz.domain.notification.dto.CachedEvent;
+import yuquiz.domain.notification.dto.NotificationRes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_EVENT_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_SEQUENCE_KEY;
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_TOPIC;
+
+/**
+ * 모든 서버가 함께 쓰는 알림 재전송 목록.
+ * 사용자별 Redis list를 LTRIM으로 최근 replayCapacity개만 유지하는 ring buffer로 사용하고,
+ * sequence는 INCR로 발급해 어느 서버로 재연결해도 같은 Last-Event-ID 기준으로 놓친 알림을 찾는다.
+ */
+@Repository
+public class EventCacheRepositoryImpl implements EventCacheRepository {
+
+    private final RedisUtil redisUtil;
+    private final CachedEventCodec cachedEventCodec;
+
+    private final int replayCapacity;
+    private final long replayTtl;
+
+    public EventCacheRepositoryImpl(RedisUtil redisUtil,
+                                    CachedEventCodec cachedEventCodec,
+                                    @Value("${notification.replay.capacity}") int replayCapacity,
+                                    @Value("${notification.replay.ttl}") long replayTtl) {
+        this.redisUtil = redisUtil;
+        this.cachedEventCodec = cachedEventCodec;
+        this.replayCapacity = replayCapacity;
+        this.replayTtl = replayTtl;
+    }
+
+    /**
+     * 알림을 재전송 목록에 저장하고 알림 채널로 발행.
+     * 저장(RPUSH), 길이 제한(LTRIM), 만료시간 갱신, 발행(PUBLISH)을 pipeline으로 묶어 한 번의 왕복으로 처리하며,
+     * 발행된 알림은 각 서버의 NotificationDispatcher가 자기 서버에 연결된 사용자에게만 전송한다.
+     */
+    @Override
+    public CachedEvent saveAndPublish(Long userId, NotificationRes notification) {
+        CachedEvent event = CachedEvent.of(userId, redisUtil.increment(NOTIFICATION_SEQUENCE_KEY), notification);
+        byte[] payload = cachedEventCodec.encode(event);
+
+        byte[] key = redisUtil.rawKey(NOTIFICATION_EVENT_PREFIX + userId);
+        byte[] channel = redisUtil.rawKey(NOTIFICATION_TOPIC);
+
+        redisUtil.executePipelined(connection -> {
+            connection.listCommands().rPush(key, payload);
+            connection.listCommands().lTrim(key, -replayCapacity, -1);
+            connection.keyCommands().expire(key, replayTtl);     // 재연결하지 않는 사용자의 목록이 남지 않도록
+            connection.publish(channel, payload);
+        });
+        return event;
+    }
+
+    /**
+     * lastSequence 이후이고 만료되지 않은 알림을 sequence 순으로 반환.
+     * sequence 발급(INCR)과 저장(RPUSH)이 따로 실행되어 서버 간 저장 순서가 sequence 순서와 다를 수 있으므로,
+     * 처음 만난 오래된 알림에서 멈추지 않고 목록 전체(최대 replayCapacity개)를 확인한 뒤 정렬한다.
+     */
+    @Override
+    public List<CachedEvent> findAllAfter(Long userId, long lastSequence) {
+        List<byte[]> payloads = redisUtil.getRawList(NOTIFICATION_EVENT_PREFIX + userId, 0, -1);
+        long expiredBefore = System.currentTimeMillis() - replayTtl * 1000;
+        List<CachedEvent> missed = new ArrayList<>();
+
+        for (byte[] payload : payloads) {
+            CachedEvent event = cachedEventCodec.decode(payload);
+            if (event.sequence() <= lastSequence || event.createdAt() < expiredBefore) {
+                continue;
+            }
+            missed.add(event);
+        }
+
+        missed.sort(Comparator.comparingLong(CachedEvent::sequence));
+        return missed;
+    }
+
+    @Override
+    public long getLastSequence() {
+        Object sequence = redisUtil.get(NOTIFICATION_SEQUENCE_KEY);
+        return sequence != null ? Long.parseLong(String.valueOf(sequence)) : 0;
+    }
+
+    @Override
+    public void deleteAllByUserId(Long userId) {
+        redisUtil.del(NOTIFICATION_EVENT_PREFIX + userId);
+    }
+}
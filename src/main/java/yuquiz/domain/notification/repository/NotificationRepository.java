@@ -9,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 import yuquiz.domain.notification.entity.Notification;
 import yuquiz.domain.user.entity.User;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, CustomNotificationRepository {
 
     Page<Notification> findAllByUserAndIsChecked(User user, boolean isChecked, Pageable pageable);
 
@@ -0,0 +1,56 @@
+package yuquiz.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import yuquiz.domain.notification.converter.CachedEventCodec;
+import yuquiz.domain.notification.dto.CachedEvent;
+import yuquiz.domain.notification.repository.EmitterRepository;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 알림 채널(notification)로 발행된 알림을 현재 서버에 연결된 사용자에게 전송.
+ * 모든 서버가 같은 채널을 구독하고 사용자 id로 자기 서버의 연결만 찾으므로, 연결이 없는 서버에서는 바로 버려진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher implements MessageListener {
+
+    private final EmitterRepository emitterRepository;
+    private final CachedEventCodec cachedEventCodec;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CachedEvent event;
+        try {
+            event = cachedEventCodec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid notification message: {}", e.getMessage());
+            return;
+        }
+
+        dispatch(event);
+    }
+
+    /* 현재 서버에 연결된 사용자의 모든 연결로 전송 */
+    public void dispatch(CachedEvent event) {
+        Set<SseEmitter> sseEmitters = emitterRepository.findAllEmitterByUserId(event.userId());
+        sseEmitters.forEach(emitter -> sendClient(event.userId(), emitter, event.id(), event.data()));
+    }
+
+    public void sendClient(Long userId, SseEmitter emitter, String eventId, Object data) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(eventId)
+                    .data(data));
+        } catch (IOException | IllegalStateException e) {
+            emitterRepository.evict(userId, emitter);
+        }
+    }
+}
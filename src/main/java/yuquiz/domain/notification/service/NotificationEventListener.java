@@ -0,0 +1,150 @@
+package yuquiz.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.event.NotificationEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 트랜잭션이 커밋된 뒤 알림 이벤트를 크기가 제한된 queue에 넣고, 전용 스레드가 batchSize개씩 모아 저장하고 전송.
+ * 저장과 전송 실패는 전용 스레드에서 maxAttempts번까지 재시도하므로 요청 처리 시간과 트랜잭션에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationEventListener {
+
+    private static final long POLL_TIMEOUT = 1000;
+
+    private final NotificationService notificationService;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoff;
+    private final Counter droppedCounter;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public NotificationEventListener(NotificationService notificationService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.dispatch.queue-capacity}") int queueCapacity,
+                                     @Value("${notification.dispatch.batch-size}") int batchSize,
+                                     @Value("${notification.dispatch.max-attempts}") int maxAttempts,
+                                     @Value("${notification.dispatch.retry-backoff}") long retryBackoff) {
+        this.notificationService = notificationService;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+
+        Gauge.builder("notification.dispatch.pending", queue, BlockingQueue::size)
+                .description("저장, 전송 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.dispatch.dropped")
+                .description("queue가 가득 차거나 재시도에 모두 실패해 버려진 알림 수")
+                .register(meterRegistry);
+    }
+
+    /* 커밋된 경우에만 queue에 추가, 트랜잭션 밖에서 발행된 이벤트는 바로 추가 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void enqueue(NotificationEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.error("Notification queue is full, dropped notification for user {}", event.userId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.execute(this::run);
+    }
+
+    /* 종료 시 queue에 남은 알림까지 처리 */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.shutdown();
+        if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+            worker.shutdownNow();
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<NotificationEvent> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to dispatch notifications: {}", e.getMessage());
+            }
+        }
+    }
+
+    /* 한 번에 저장한 뒤 사용자별로 전송, 저장과 전송을 따로 재시도해 재시도 시 중복 저장되지 않도록 함 */
+    public void dispatch(List<NotificationEvent> batch) throws InterruptedException {
+        List<NotificationRes> saved = retry(() -> notificationService.saveAll(batch));
+        if (saved == null) {
+            droppedCounter.increment(batch.size());
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Long userId = batch.get(i).userId();
+            NotificationRes notification = saved.get(i);
+
+            // 전송에 실패해도 알림은 저장되어 있으므로 목록 조회로 확인 가능
+            retry(() -> {
+                notificationService.publish(userId, notification);
+                return notification;
+            });
+        }
+    }
+
+    /* 실패 시 retryBackoff부터 두 배씩 늘려가며 maxAttempts번까지 시도, 모두 실패하면 null */
+    private <T> T retry(Supplier<T> task) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return task.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to dispatch notifications after {} attempts: {}", attempt, e.getMessage());
+                    return null;
+                }
+                log.warn("Failed to dispatch notifications (attempt {}): {}", attempt, e.getMessage());
+                Thread.sleep(retryBackoff << (attempt - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package yuquiz.domain.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import yuquiz.domain.notification.repository.EmitterRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 SSE 연결에 주기적으로 comment 프레임(heartbeat)을 보내 끊어진 연결을 찾아 제거.
+ * 연결을 batchSize개씩 나눠 전용 스레드들이 나눠 보내므로, 응답이 느린 소켓 하나가 전체 heartbeat를 지연시키지 않는다.
+ * 스케줄러 스레드는 batch를 넘기기만 하고 완료를 기다리지 않으며, 이전 주기가 끝나지 않았으면 이번 주기는 건너뛴다.
+ * pingTimeout 안에 전송이 끝나지 않은 연결은 저장소에서만 제거해 이후 알림 대상에서 뺀다.
+ * 막힌 send는 emitter lock을 잡고 있으므로 watchdog은 emitter를 호출하지 않으며,
+ * 막힌 write 자체는 Tomcat의 소켓 write timeout(server.tomcat.connection-timeout)이 IOException으로 끝낸다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class NotificationHeartbeat {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EmitterRepository emitterRepository;
+    private final int batchSize;
+    private final long pingTimeout;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService watchdog;
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    public NotificationHeartbeat(EmitterRepository emitterRepository,
+                                 @Value("${notification.heartbeat.batch-size}") int batchSize,
+                                 @Value("${notification.heartbeat.threads}") int threads,
+                                 @Value("${notification.heartbeat.ping-timeout}") long pingTimeout) {
+        this.emitterRepository = emitterRepository;
+        this.batchSize = batchSize;
+        this.pingTimeout = pingTimeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-heartbeat-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-heartbeat-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /* 전체 연결을 batchSize개씩 나눠 heartbeat 전송, 스케줄러 스레드는 완료를 기다리지 않음 */
+    @Scheduled(fixedDelayString = "${notification.heartbeat.interval}")
+    public void sendHeartbeat() {
+        if (!sweeping.compareAndSet(false, true)) {
+            log.warn("이전 heartbeat 전송이 끝나지 않아 이번 주기를 건너뜁니다.");
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            List<Map.Entry<Long, SseEmitter>> batch = new ArrayList<>(batchSize);
+            emitterRepository.forEachEmitter((userId, emitter) -> {
+                batch.add(Map.entry(userId, emitter));
+                if (batch.size() == batchSize) {
+                    futures.add(submit(new ArrayList<>(batch)));
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                futures.add(submit(batch));
+            }
+        } catch (RuntimeException e) {
+            /* 이미 넘긴 batch가 끝난 뒤에 다음 주기를 허용 */
+            releaseAfter(futures);
+            throw e;
+        }
+
+        releaseAfter(futures);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private void releaseAfter(List<CompletableFuture<Void>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((result, e) -> sweeping.set(false));
+    }
+
+    private CompletableFuture<Void> submit(List<Map.Entry<Long, SseEmitter>> batch) {
+        return CompletableFuture.runAsync(() -> batch.forEach(entry -> ping(entry.getKey(), entry.getValue())), executor);
+    }
+
+    /* 전송이 pingTimeout을 넘기면 watchdog이 연결을 알림 대상에서 제거 */
+    private void ping(Long userId, SseEmitter emitter) {
+        ScheduledFuture<?> timeout = watchdog.schedule(
+                () -> abandon(userId, emitter), pingTimeout, TimeUnit.MILLISECONDS);
+        try {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        } catch (IOException | IllegalStateException e) {
+            emitterRepository.evict(userId, emitter);
+        } finally {
+            timeout.cancel(false);
+        }
+    }
+
+    /* send가 emitter lock을 잡고 있을 수 있으므로 emitter는 건드리지 않고 저장소에서만 제거 */
+    private void abandon(Long userId, SseEmitter emitter) {
+        log.warn("Heartbeat to user {} timed out, evicting connection", userId);
+        emitterRepository.evict(userId, emitter);
+    }
+}
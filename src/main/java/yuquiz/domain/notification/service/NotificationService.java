@@ -5,20 +5,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import yuquiz.common.exception.CustomException;
 import yuquiz.domain.notification.dto.*;
 import yuquiz.domain.notification.entity.Notification;
+import yuquiz.domain.notification.event.NotificationEvent;
 import yuquiz.domain.notification.repository.EmitterRepository;
+import yuquiz.domain.notification.repository.EventCacheRepository;
 import yuquiz.domain.notification.repository.NotificationRepository;
 import yuquiz.domain.study.exception.NotificationExceptionCode;
 import yuquiz.domain.user.entity.User;
 import yuquiz.domain.user.exception.UserExceptionCode;
 import yuquiz.domain.user.repository.UserRepository;
 
-import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 
 @Service
 @Transactional
@@ -28,6 +30,8 @@ public class NotificationService {
     private final UserRepository userRepository;
 
     private final EmitterRepository emitterRepository;
+    private final EventCacheRepository eventCacheRepository;
+    private final NotificationDispatcher notificationDispatcher;
     private static final Integer NOTIFICATION_PER_PAGE = 20;
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
@@ -63,58 +67,32 @@ public class NotificationService {
     }
 
     public SseEmitter subscribe(Long userId, String lastEventId) {
-        String emitterId = userId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(userId, new SseEmitter(DEFAULT_TIMEOUT));
+        String emitterId = CachedEvent.toEventId(userId, eventCacheRepository.getLastSequence());     // 등록 이후 알림은 바로 전송됨
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> emitterRepository.delete(userId, emitter));
+        emitter.onTimeout(() -> emitterRepository.expire(userId, emitter));
+        emitter.onError(e -> emitterRepository.evict(userId, emitter));
 
-        sendClient(emitter, emitterId, "EventStream created. Id : "+emitterId);
+        notificationDispatcher.sendClient(userId, emitter, emitterId, "EventStream created. Id : "+emitterId);
 
-        if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithByUserId(String.valueOf(userId));
-
-            events.entrySet().stream()
-                    .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                    .forEach(entry -> {
-                        sendClient(emitter, entry.getKey() , entry.getValue());
-                    });
+        Long lastSequence = lastEventId.isEmpty() ? null : CachedEvent.parseSequence(lastEventId);
+        if (lastSequence != null) {
+            eventCacheRepository.findAllAfter(userId, lastSequence)
+                    .forEach(event -> notificationDispatcher.sendClient(userId, emitter, event.id(), event.data()));
         }
 
         return emitter;
     }
 
-    public void send(User user, NotificationType notificationType, String content, String url) {
-        Notification notification = notificationRepository.save(createNotification(user, notificationType, content, url));
-        String userId = String.valueOf(user.getId());
-
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllEmitterStartWithByUserId(userId);
-        String eventId = userId+"_"+System.currentTimeMillis();
-        emitterRepository.saveEventCache(eventId, NotificationRes.fromEntity(notification));
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    sendClient(emitter, eventId, NotificationRes.fromEntity(notification));
-                }
-        );
-    }
-
-    private void sendClient(SseEmitter emitter, String emitterId, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .data(data));
-        } catch (IOException e) {
-            emitterRepository.deleteById(emitterId);
-        }
+    /* 알림을 한 번에 저장 (JDBC batch insert) */
+    public List<NotificationRes> saveAll(List<NotificationEvent> events) {
+        return notificationRepository.insertNotifications(events);
     }
 
-    public Notification createNotification(User user, NotificationType notificationType, String content, String url) {
-        return Notification.builder()
-                .user(user)
-                .notificationType(notificationType)
-                .message(content)
-                .title(content)
-                .redirectUrl(url)
-                .build();
+    /* 알림 채널로 발행하면 사용자가 연결된 서버(현재 서버 포함)에서 전송 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void publish(Long userId, NotificationRes notification) {
+        eventCacheRepository.saveAndPublish(userId, notification);
     }
 }
@@ -15,7 +15,7 @@ public record PostRes(String title,
                       boolean isLiked,
                       boolean isWriter
 ) {
-    public static PostRes fromEntity(Post post, boolean isLiked, boolean isWriter) {
+    public static PostRes fromEntity(Post post, int viewCount, boolean isLiked, boolean isWriter) {
 
         return new PostRes(
                 post.getTitle(),
@@ -23,7 +23,7 @@ public record PostRes(String title,
                 post.getCategory().getCategoryName(),
                 post.getWriter().getNickname(),
                 post.getLikeCount(),
-                post.getViewCount(),
+                viewCount,
                 post.getCreatedAt(),
                 !post.getModifiedAt().equals(post.getCreatedAt()),
                 isLiked,
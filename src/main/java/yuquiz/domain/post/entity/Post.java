@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import yuquiz.common.entity.BaseTimeEntity;
 import yuquiz.domain.category.entity.Category;
 import yuquiz.domain.comment.entity.Comment;
@@ -20,6 +21,7 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate      // 게시글 수정 시 viewCount/likeCount 컬럼은 UPDATE에 포함하지 않음
 @Entity
 public class Post extends BaseTimeEntity {
 
@@ -66,18 +68,6 @@ public class Post extends BaseTimeEntity {
         this.viewCount = 0;
     }
 
-    public int decreaseLikeCount() {
-        return --this.likeCount;
-    }
-
-    public int increaseLikeCount() {
-        return ++this.likeCount;
-    }
-
-    public int increaseViewCount() {
-        return ++this.viewCount;
-    }
-
     public void update(PostReq postReq, Category category) {
         this.title = postReq.title();
         this.content = postReq.content();
@@ -5,8 +5,9 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.post.dto.PostSortType;
 import yuquiz.domain.post.entity.Post;
 import yuquiz.domain.studyPost.entity.StudyPostType;
@@ -19,9 +20,11 @@ import static yuquiz.domain.studyPost.entity.QStudyPost.studyPost;
 
 public class CustomPostRepositoryImpl implements CustomPostRepository {
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCountCache pageCountCache;
 
-    public CustomPostRepositoryImpl(EntityManager entityManager) {
+    public CustomPostRepositoryImpl(EntityManager entityManager, PageCountCache pageCountCache) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.pageCountCache = pageCountCache;
     }
 
     @Override
@@ -39,19 +42,18 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = Optional.ofNullable(jpaQueryFactory
-                .select(post.count())
-                .from(post)
-                .where(
-                        wordContain(keyword),
-                        categoryEqual(categoryId),
-                        post.studyPosts.isEmpty()
-                )
-                .fetchOne()
-        ).orElse(0L);
-
-
-        return new PageImpl<>(posts, pageable, total);
+        return PageableExecutionUtils.getPage(posts, pageable, () -> pageCountCache.getCount(
+                Post.class, "category=" + categoryId, keyword,
+                () -> Optional.ofNullable(jpaQueryFactory
+                        .select(post.count())
+                        .from(post)
+                        .where(
+                                wordContain(keyword),
+                                categoryEqual(categoryId),
+                                post.studyPosts.isEmpty()
+                        )
+                        .fetchOne()
+                ).orElse(0L)));
     }
 
     @Override
@@ -71,20 +73,20 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = Optional.ofNullable(jpaQueryFactory
-                .select(post.count())
-                .from(post)
-                .join(post.studyPosts, studyPost)
-                .where(
-                        studyPost.type.eq(type),
-                        studyPost.study.id.eq(studyId),
-                        wordContain(keyword),
-                        categoryEqual(categoryId)
-                )
-                .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(posts, pageable, total);
+        return PageableExecutionUtils.getPage(posts, pageable, () -> pageCountCache.getCount(
+                Post.class, "study=" + studyId + ",type=" + type + ",category=" + categoryId, keyword,
+                () -> Optional.ofNullable(jpaQueryFactory
+                        .select(post.count())
+                        .from(post)
+                        .join(post.studyPosts, studyPost)
+                        .where(
+                                studyPost.type.eq(type),
+                                studyPost.study.id.eq(studyId),
+                                wordContain(keyword),
+                                categoryEqual(categoryId)
+                        )
+                        .fetchOne()
+                ).orElse(0L)));
     }
 
     private BooleanExpression wordContain(String keyword) {
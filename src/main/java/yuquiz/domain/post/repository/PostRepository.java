@@ -3,10 +3,13 @@ package yuquiz.domain.post.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yuquiz.domain.post.entity.Post;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRepository {
@@ -15,4 +18,17 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
     Optional<Long> findWriterIdById(@Param("id") Long id);
 
     Page<Post> findByWriter_Id(Long userId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + :delta where p.id in :ids")
+    int increaseViewCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount - 1 where p.id = :id and p.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
 }
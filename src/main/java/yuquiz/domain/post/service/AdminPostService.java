@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.post.dto.PostSortType;
 import yuquiz.domain.post.dto.PostSummaryRes;
 import yuquiz.domain.post.entity.Post;
@@ -16,6 +17,7 @@ import yuquiz.domain.post.repository.PostRepository;
 public class AdminPostService {
 
     private final PostRepository postRepository;
+    private final PageCountCache pageCountCache;
 
     private static final Integer POST_PER_PAGE = 20;
 
@@ -31,5 +33,6 @@ public class AdminPostService {
     public void deletePost(Long postId) {
 
         postRepository.deleteById(postId);
+        pageCountCache.evict(Post.class);
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yuquiz.common.exception.CustomException;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.category.entity.Category;
 import yuquiz.domain.category.exception.CategoryExceptionCode;
 import yuquiz.domain.category.repository.CategoryRepository;
@@ -32,6 +33,8 @@ public class PostService {
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final LikedPostRepository likedPostRepository;
+    private final PostViewCountService postViewCountService;
+    private final PageCountCache pageCountCache;
 
     private final Integer POST_PER_PAGE = 20;
     private final String ANNOUNCEMENTS = "공지게시판";
@@ -50,10 +53,13 @@ public class PostService {
         }
 
         Post post = postReq.toEntity(user, category);
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        pageCountCache.evict(Post.class);
+
+        return savedPost;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostRes getPostById(Long postId, Long userId) {
 
         User user = userRepository.findById(userId)
@@ -63,9 +69,9 @@ public class PostService {
 
         boolean isLiked = likedPostRepository.existsByUserAndPost(user, post);
         boolean isWriter = user.getId().equals(post.getWriter().getId());
-        post.increaseViewCount();
+        postViewCountService.increaseViewCount(postId);
 
-        return PostRes.fromEntity(post, isLiked, isWriter);
+        return PostRes.fromEntity(post, postViewCountService.getViewCount(post), isLiked, isWriter);
     }
 
     @Transactional(readOnly = true)
@@ -101,6 +107,7 @@ public class PostService {
         }
 
         postRepository.deleteById(postId);
+        pageCountCache.evict(Post.class);
     }
 
     private boolean validateWriter(Long postId, Long userId) {
@@ -0,0 +1,43 @@
+package yuquiz.domain.post.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import yuquiz.common.utils.counter.ViewCounter;
+import yuquiz.domain.post.entity.Post;
+import yuquiz.domain.post.repository.PostRepository;
+
+@Service
+@EnableScheduling
+public class PostViewCountService {
+
+    private final ViewCounter viewCounter;
+
+    public PostViewCountService(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.viewCounter = new ViewCounter("post", postRepository::increaseViewCount, meterRegistry);
+    }
+
+    /* 조회수 증가 (메모리에 누적) */
+    public void increaseViewCount(Long postId) {
+        viewCounter.increase(postId);
+    }
+
+    /* 아직 반영되지 않은 증가분을 더한 조회수 */
+    public int getViewCount(Post post) {
+        return post.getViewCount() + viewCounter.getPending(post.getId());
+    }
+
+    /* 누적된 조회수를 주기적으로 DB에 반영 */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval}")
+    public void flushViewCounts() {
+        viewCounter.flush();
+    }
+
+    /* 종료 시 남은 조회수 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -287,6 +288,58 @@ public interface QuizApi {
             @RequestParam(value = "sort", defaultValue = "DATE_DESC") QuizSortType sort,
             @PageableDefault(size=20,page=0) Pageable pageable);
 
+    @Operation(summary = "퀴즈 검색 (커서)", description = "퀴즈를 키워드 혹은 과목 별로 커서 기반으로 조회하는 api. " +
+            "응답의 nextCursor를 다음 요청의 cursor로 전달하며, 첫 요청에는 cursor를 생략합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = """
+                                    {
+                                          "quizList": [
+                                              {
+                                                  "quizId": 40,
+                                                  "quizTitle": "X테스트",
+                                                  "nickname": "test",
+                                                  "createdAt": "2024-09-23T17:46:24.625241",
+                                                  "likeCount": 0,
+                                                  "viewCount": 1,
+                                                  "isSolved": null,
+                                                  "quizType": "TRUE_FALSE"
+                                              },
+                                              {
+                                                  "quizId": 38,
+                                                  "quizTitle": "객관식 테스트 ",
+                                                  "nickname": "test",
+                                                  "createdAt": "2024-09-23T17:06:25.689875",
+                                                  "likeCount": 0,
+                                                  "viewCount": 1,
+                                                  "isSolved": true,
+                                                  "quizType": "MULTIPLE_CHOICE"
+                                              }
+                                          ],
+                                          "nextCursor": "REFURV9ERVNDfDIwMjQtMDktMjNUMTc6MDY6MjUuNjg5ODc1fDM4",
+                                          "hasNext": true
+                                      }
+                                    """)
+                    })),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = """
+                                    {
+                                        "status": 400,
+                                        "message": "유효하지 않은 커서입니다."
+                                    }
+                                    """)
+                    }))
+    })
+    ResponseEntity<?> getQuizzesByCursor(
+            @AuthenticationPrincipal SecurityUserDetails userDetails,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "subject", required = false) Long subjectId,
+            @RequestParam(value = "sort", defaultValue = "DATE_DESC") QuizSortType sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) Integer size);
+
     @Operation(summary = "작성한 퀴즈 목록", description = "사용자가 작성한 퀴즈 목록을 불러오는 api")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "퀴즈 목록 조회 성공",
@@ -1,6 +1,7 @@
 package yuquiz.domain.quiz.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -89,6 +90,20 @@ public class QuizController implements QuizApi {
         return ResponseEntity.status(HttpStatus.OK).body(quizzes);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getQuizzesByCursor(
+            @AuthenticationPrincipal SecurityUserDetails userDetails,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "subject", required = false) Long subjectId,
+            @RequestParam(value = "sort", defaultValue = "DATE_DESC") QuizSortType sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) Integer size) {
+
+        QuizCursorRes quizzes = quizService.getQuizzesByCursor(userDetails.getId(), keyword, subjectId, sort, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(quizzes);
+    }
+
     @GetMapping("/my")
     public ResponseEntity<?> getQuizzesByWriter(
             @AuthenticationPrincipal SecurityUserDetails userDetails,
@@ -0,0 +1,72 @@
+package yuquiz.domain.quiz.dto.quiz;
+
+import yuquiz.common.exception.CustomException;
+import yuquiz.domain.quiz.entity.Quiz;
+import yuquiz.domain.quiz.exception.QuizExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 퀴즈 목록 조회에서 마지막으로 내려준 퀴즈의 위치.
+ * 정렬 기준 값과 id를 함께 담아 (정렬 값, id) 순서로 다음 행을 찾는다.
+ * 클라이언트에는 정렬 종류까지 포함해 Base64로 인코딩한 불투명 문자열로 전달된다.
+ */
+public record QuizCursor(
+        QuizSortType sort,
+        String value,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static QuizCursor of(QuizSortType sort, Quiz quiz) {
+        String value = switch (sort) {
+            case LIKE_DESC, LIKE_ASC -> String.valueOf(quiz.getLikeCount());
+            case VIEW_DESC, VIEW_ASC -> String.valueOf(quiz.getViewCount());
+            case DATE_DESC, DATE_ASC -> quiz.getCreatedAt().toString();
+        };
+
+        return new QuizCursor(sort, value, quiz.getId());
+    }
+
+    /* 클라이언트가 보낸 커서 해석, 형식이 맞지 않거나 정렬 기준이 다르면 예외 */
+    public static QuizCursor decode(String cursor, QuizSortType sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+
+            if (parts.length != 3 || QuizSortType.valueOf(parts[0]) != sort) {
+                throw new CustomException(QuizExceptionCode.INVALID_CURSOR);
+            }
+
+            QuizCursor quizCursor = new QuizCursor(sort, parts[1], Long.parseLong(parts[2]));
+            quizCursor.validateValue();
+
+            return quizCursor;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new CustomException(QuizExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int countValue() {
+        return Integer.parseInt(value);
+    }
+
+    public LocalDateTime dateValue() {
+        return LocalDateTime.parse(value);
+    }
+
+    private void validateValue() {
+        switch (sort) {
+            case DATE_DESC, DATE_ASC -> dateValue();
+            default -> countValue();
+        }
+    }
+}
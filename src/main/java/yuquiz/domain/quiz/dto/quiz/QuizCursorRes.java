@@ -0,0 +1,22 @@
+package yuquiz.domain.quiz.dto.quiz;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record QuizCursorRes(
+        List<QuizSummaryRes> quizList,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static QuizCursorRes of(List<QuizSummaryRes> quizList,
+                                   String nextCursor,
+                                   boolean hasNext) {
+        return QuizCursorRes.builder()
+                .quizList(quizList)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -35,14 +35,14 @@ public record QuizRes(
 
         boolean modified
 ) {
-    public static QuizRes fromEntity(Quiz quiz, boolean isLiked, boolean isPinned, boolean isWriter) {
+    public static QuizRes fromEntity(Quiz quiz, int viewCount, boolean isLiked, boolean isPinned, boolean isWriter) {
         return new QuizRes(
                 quiz.getTitle(),
                 quiz.getQuestion(),
                 quiz.getQuizImgs(),
                 quiz.getQuizType(),
                 quiz.getLikeCount(),
-                quiz.getViewCount(),
+                viewCount,
                 quiz.getChoices(),
                 quiz.getSubject().getSubjectName(),
                 quiz.getWriter().getNickname(),
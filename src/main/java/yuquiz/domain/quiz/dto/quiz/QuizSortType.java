@@ -29,4 +29,9 @@ public enum QuizSortType {
     public Sort getSort() {
         return Sort.by(direction, type);
     }
+
+    /* 정렬 값이 같은 경우 순서를 고정하기 위한 보조 정렬 */
+    public OrderSpecifier<Long> getIdOrder() {
+        return direction.isAscending() ? quiz.id.asc() : quiz.id.desc();
+    }
 }
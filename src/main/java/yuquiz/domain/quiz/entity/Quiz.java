@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import yuquiz.common.entity.BaseTimeEntity;
 import yuquiz.domain.like.entity.LikedQuiz;
 import yuquiz.domain.quiz.converter.StringListConverter;
@@ -20,7 +21,15 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate      // 변경된 컬럼만 UPDATE하여 벌크로 반영되는 조회수/좋아요 수를 덮어쓰지 않도록 함
 @Entity
+@Table(name = "Quiz",
+        indexes = {     // 커서 조회용, InnoDB 보조 인덱스에 PK(id)가 포함되므로 (정렬 값, id) 순서로 탐색
+                @Index(name = "idx_quiz_created_at", columnList = "created_At"),
+                @Index(name = "idx_quiz_like_count", columnList = "like_count"),
+                @Index(name = "idx_quiz_view_count", columnList = "view_count")
+        }
+)
 public class Quiz extends BaseTimeEntity {
 
     @Id
@@ -96,18 +105,6 @@ public class Quiz extends BaseTimeEntity {
         this.viewCount = 0;
     }
 
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount -= 1;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount += 1;
-    }
-
     public void changeVisibility() {
         if (this.visibility) {
             this.visibility = false;
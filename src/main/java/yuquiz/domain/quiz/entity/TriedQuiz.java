@@ -10,6 +10,11 @@ import yuquiz.domain.user.entity.User;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(name = "TriedQuiz",
+        indexes = {
+                @Index(name = "idx_tried_quiz_user_quiz", columnList = "user_id, quiz_id")
+        }
+)
 public class TriedQuiz {
 
     @Id
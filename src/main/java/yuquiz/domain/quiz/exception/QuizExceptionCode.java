@@ -9,6 +9,7 @@ public enum QuizExceptionCode implements ExceptionCode {
     INVALID_ID(404, "존재하지 않는 퀴즈입니다."),
     ALREADY_PINNED(409, "이미 즐겨찾기 한 퀴즈입니다."),
     ALREADY_LIKED(409, "이미 좋아요 한 퀴즈입니다."),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다."),
     UNAUTHORIZED_ACTION(403, "권한이 없습니다.");
 
     private final int status;
@@ -2,9 +2,14 @@ package yuquiz.domain.quiz.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import yuquiz.domain.quiz.dto.quiz.QuizCursor;
 import yuquiz.domain.quiz.dto.quiz.QuizSortType;
 import yuquiz.domain.quiz.entity.Quiz;
 
+import java.util.List;
+
 public interface CustomQuizRepository {
     Page<Quiz> getQuizzes(String keyword, Pageable pageable, QuizSortType sort, Long subjectId, Long userId);
+
+    List<Quiz> getQuizzesByCursor(String keyword, Long subjectId, QuizSortType sort, QuizCursor cursor, int limit);
 }
@@ -5,22 +5,27 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import yuquiz.common.utils.counter.PageCountCache;
+import yuquiz.domain.quiz.dto.quiz.QuizCursor;
 import yuquiz.domain.quiz.dto.quiz.QuizSortType;
 import yuquiz.domain.quiz.entity.Quiz;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static yuquiz.domain.quiz.entity.QQuiz.quiz;
 
 
 public class CustomQuizRepositoryImpl implements CustomQuizRepository {
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCountCache pageCountCache;
 
-    public CustomQuizRepositoryImpl(EntityManager entityManager) {
+    public CustomQuizRepositoryImpl(EntityManager entityManager, PageCountCache pageCountCache) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.pageCountCache = pageCountCache;
     }
 
     @Override
@@ -34,15 +39,19 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = Optional.ofNullable(
-                jpaQueryFactory
-                        .select(quiz.count())
-                        .from(quiz)
-                        .where(wordContain(keyword), subjectEqual(subjectId))
-                        .fetchOne()
-        ).orElse(0L);
+        return PageableExecutionUtils.getPage(quizzes, pageable, () -> countQuizzes(keyword, subjectId));
+    }
 
-        return new PageImpl<>(quizzes, pageable, total);
+    /* offset, count 쿼리 없이 커서 이후의 행만 인덱스로 탐색 */
+    @Override
+    public List<Quiz> getQuizzesByCursor(String keyword, Long subjectId, QuizSortType sort, QuizCursor cursor, int limit) {
+        return jpaQueryFactory
+                .select(quiz)
+                .from(quiz)
+                .where(wordContain(keyword), subjectEqual(subjectId), afterCursor(sort, cursor))
+                .orderBy(sort.getOrder(), sort.getIdOrder())
+                .limit(limit)
+                .fetch();
     }
 
     private BooleanExpression wordContain(String keyword) {
@@ -58,6 +67,43 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
         );
     }
 
+    private long countQuizzes(String keyword, Long subjectId) {
+        LongSupplier countQuery = () -> Optional.ofNullable(
+                jpaQueryFactory
+                        .select(quiz.count())
+                        .from(quiz)
+                        .where(wordContain(keyword), subjectEqual(subjectId))
+                        .fetchOne()
+        ).orElse(0L);
+
+        if (wordContain(keyword) == null && subjectId == null) {
+            return pageCountCache.getUnfilteredCount(Quiz.class, countQuery);
+        }
+        return pageCountCache.getCount(Quiz.class, "subject=" + subjectId, keyword, countQuery);
+    }
+
+    /* (정렬 값, id) 기준으로 커서 다음 위치부터 조회 */
+    private BooleanExpression afterCursor(QuizSortType sort, QuizCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (sort) {
+            case LIKE_DESC -> quiz.likeCount.lt(cursor.countValue())
+                    .or(quiz.likeCount.eq(cursor.countValue()).and(quiz.id.lt(cursor.id())));
+            case LIKE_ASC -> quiz.likeCount.gt(cursor.countValue())
+                    .or(quiz.likeCount.eq(cursor.countValue()).and(quiz.id.gt(cursor.id())));
+            case VIEW_DESC -> quiz.viewCount.lt(cursor.countValue())
+                    .or(quiz.viewCount.eq(cursor.countValue()).and(quiz.id.lt(cursor.id())));
+            case VIEW_ASC -> quiz.viewCount.gt(cursor.countValue())
+                    .or(quiz.viewCount.eq(cursor.countValue()).and(quiz.id.gt(cursor.id())));
+            case DATE_DESC -> quiz.createdAt.lt(cursor.dateValue())
+                    .or(quiz.createdAt.eq(cursor.dateValue()).and(quiz.id.lt(cursor.id())));
+            case DATE_ASC -> quiz.createdAt.gt(cursor.dateValue())
+                    .or(quiz.createdAt.eq(cursor.dateValue()).and(quiz.id.gt(cursor.id())));
+        };
+    }
+
     private BooleanExpression subjectEqual(Long subjectId) {
         if (subjectId == null) {
             return null;
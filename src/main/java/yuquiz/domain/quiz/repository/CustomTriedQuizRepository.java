@@ -1,12 +1,8 @@
 package yuquiz.domain.quiz.repository;
 
-import yuquiz.domain.quiz.entity.TriedQuiz;
-
-import java.util.List;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Map;
 
 public interface CustomTriedQuizRepository {
-    List<TriedQuiz> getTriedQuizzes(Long userId);
-
-    Optional<Boolean> getIsSolvedByUser_IdAndQuiz_Id(long userId, long quizId);
+    Map<Long, Boolean> getIsSolvedByUser_IdAndQuiz_IdIn(Long userId, Collection<Long> quizIds);
 }
@@ -2,10 +2,10 @@ package yuquiz.domain.quiz.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import yuquiz.domain.quiz.entity.TriedQuiz;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import static yuquiz.domain.quiz.entity.QTriedQuiz.triedQuiz;
 
@@ -16,26 +16,25 @@ public class CustomTriedQuizRepositoryImpl implements CustomTriedQuizRepository
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
     }
 
+    /* 페이지에 포함된 퀴즈들에 대해서만 (quizId, isSolved) 조회 */
     @Override
-    public List<TriedQuiz> getTriedQuizzes(Long userId) {
+    public Map<Long, Boolean> getIsSolvedByUser_IdAndQuiz_IdIn(Long userId, Collection<Long> quizIds) {
 
-        return jpaQueryFactory
-                .select(triedQuiz)
+        if (quizIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Boolean> isSolvedByQuizId = new HashMap<>();
+
+        jpaQueryFactory
+                .select(triedQuiz.quiz.id, triedQuiz.isSolved)
                 .from(triedQuiz)
-                .where(triedQuiz.user.id.eq(userId))
-                .fetch();
-    }
+                .where(
+                        triedQuiz.user.id.eq(userId),
+                        triedQuiz.quiz.id.in(quizIds))
+                .fetch()
+                .forEach(tuple -> isSolvedByQuizId.put(tuple.get(triedQuiz.quiz.id), tuple.get(triedQuiz.isSolved)));
 
-    @Override
-    public Optional<Boolean> getIsSolvedByUser_IdAndQuiz_Id(long userId, long quizId) {
-        return Optional.ofNullable(
-                jpaQueryFactory
-                        .select(triedQuiz.isSolved)
-                        .from(triedQuiz)
-                        .where(
-                                triedQuiz.user.id.eq(userId),
-                                triedQuiz.quiz.id.eq(quizId))
-                        .fetchOne()
-        );
+        return isSolvedByQuizId;
     }
 }
@@ -2,6 +2,7 @@ package yuquiz.domain.quiz.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import yuquiz.domain.quiz.entity.PinnedQuiz;
 import yuquiz.domain.quiz.entity.Quiz;
@@ -12,5 +13,6 @@ public interface PinnedQuizRepository extends JpaRepository<PinnedQuiz, Long> {
 
     boolean existsByUserAndQuiz(User user, Quiz quiz);
 
+    @EntityGraph(attributePaths = "quiz")
     Page<PinnedQuiz> findAllByUser(User user, Pageable pageable);
 }
@@ -3,11 +3,14 @@ package yuquiz.domain.quiz.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yuquiz.domain.quiz.entity.Quiz;
 import yuquiz.domain.user.entity.User;
 
+import java.util.Collection;
 import java.util.Optional;
 
 
@@ -16,4 +19,17 @@ public interface QuizRepository extends JpaRepository<Quiz, Long>, CustomQuizRep
 
     @Query("select q.writer.id from Quiz q where q.id = :id")
     Optional<Long> findWriterById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Quiz q set q.viewCount = q.viewCount + :delta where q.id in :ids")
+    int increaseViewCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Quiz q set q.likeCount = q.likeCount + 1 where q.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Quiz q set q.likeCount = q.likeCount - 1 where q.id = :id and q.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
 }
@@ -14,9 +14,6 @@ import java.util.Optional;
 public interface TriedQuizRepository extends JpaRepository<TriedQuiz, Long>, CustomTriedQuizRepository {
     boolean existsByUserAndQuiz(User user, Quiz quiz);
 
-    @Query("SELECT tq.isSolved FROM TriedQuiz tq WHERE tq.user =:user AND tq.quiz =:quiz")
-    Boolean findIsSolvedByUserAndQuiz(@Param("user") User user, @Param("quiz") Quiz quiz);
-
     Optional<TriedQuiz> findByUserAndQuiz(User user, Quiz quiz);
 
     @Query("SELECT tq.quiz FROM TriedQuiz tq WHERE tq.user =:user AND tq.isSolved = false")
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.quiz.dto.quiz.AdminQuizSummaryRes;
 import yuquiz.domain.quiz.dto.quiz.QuizSortType;
 import yuquiz.domain.quiz.entity.Quiz;
@@ -16,6 +17,7 @@ import yuquiz.domain.quiz.repository.QuizRepository;
 public class AdminQuizService {
 
     private final QuizRepository quizRepository;
+    private final PageCountCache pageCountCache;
 
     private static final Integer QUIZ_PER_PAGE = 20;
 
@@ -31,5 +33,6 @@ public class AdminQuizService {
     public void deleteQuiz(Long quizId){
 
         quizRepository.deleteById(quizId);
+        pageCountCache.evict(Quiz.class);
     }
 }
@@ -19,6 +19,9 @@ import yuquiz.domain.user.entity.User;
 import yuquiz.domain.user.exception.UserExceptionCode;
 import yuquiz.domain.user.repository.UserRepository;
 
+import java.util.List;
+import java.util.Map;
+
 
 @Service
 @RequiredArgsConstructor
@@ -36,8 +39,13 @@ public class PinnedQuizService {
 
         Pageable pageable = PageRequest.of(page, QUIZ_PER_PAGE, sort.getSort());
 
-        return pinnedQuizRepository.findAllByUser(user, pageable)
-                .map(pinnedQuiz -> QuizSummaryRes.fromEntity(pinnedQuiz.getQuiz(), triedQuizRepository.findIsSolvedByUserAndQuiz(user, pinnedQuiz.getQuiz())));
+        Page<Quiz> quizzes = pinnedQuizRepository.findAllByUser(user, pageable)
+                .map(PinnedQuiz::getQuiz);
+
+        List<Long> quizIds = quizzes.map(Quiz::getId).getContent();
+        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(userId, quizIds);
+
+        return quizzes.map(quiz -> QuizSummaryRes.fromEntity(quiz, triedQuizzes.get(quiz.getId())));
     }
 
     @Transactional
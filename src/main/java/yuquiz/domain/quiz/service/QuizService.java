@@ -10,6 +10,7 @@ import org.springframework.web.multipart.MultipartFile;
 import yuquiz.common.exception.CustomException;
 import yuquiz.common.s3.ImageType;
 import yuquiz.common.s3.service.StorageService;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.quiz.dto.quiz.*;
 import yuquiz.domain.quiz.repository.PinnedQuizRepository;
 import yuquiz.domain.quiz.entity.Quiz;
@@ -28,7 +29,6 @@ import yuquiz.domain.user.repository.UserRepository;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,6 +42,8 @@ public class QuizService {
     private final LikedQuizRepository likedQuizRepository;
     private final ReportRepository reportRepository;
     private final StorageService storageService;
+    private final QuizViewCountService quizViewCountService;
+    private final PageCountCache pageCountCache;
 
     private static final Integer QUIZ_PER_PAGE = 20;
 
@@ -55,6 +57,7 @@ public class QuizService {
 
         Quiz quiz = quizReq.toEntity(user, subject);
         Quiz savedQuiz = quizRepository.save(quiz);
+        pageCountCache.evict(Quiz.class);
 
         if (!image.isEmpty()) {
             String imageUrl = storageService.uploadImage(image, savedQuiz.getId(), ImageType.QUIZ);
@@ -71,6 +74,7 @@ public class QuizService {
         }
 
         quizRepository.deleteById(quizId);
+        pageCountCache.evict(Quiz.class);
     }
 
     @Transactional
@@ -91,7 +95,7 @@ public class QuizService {
         reportRepository.deleteByQuiz(quizId);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public QuizRes getQuizById(Long userId, Long quizId) {
         User user = findUserByUserId(userId);
         Quiz quiz = findQuizByQuizId(quizId);
@@ -100,9 +104,9 @@ public class QuizService {
         boolean isPinned = pinnedQuizRepository.existsByUserAndQuiz(user, quiz);
         boolean isWriter = validateWriter(quizId, userId);
 
-        quiz.increaseViewCount();
+        quizViewCountService.increaseViewCount(quizId);
 
-        return QuizRes.fromEntity(quiz, isLiked, isPinned, isWriter);
+        return QuizRes.fromEntity(quiz, quizViewCountService.getViewCount(quiz), isLiked, isPinned, isWriter);
     }
 
     @Transactional
@@ -130,12 +134,8 @@ public class QuizService {
 
         Page<Quiz> quizzes = quizRepository.getQuizzes(keyword, pageable, sort, subjectId, userId);
 
-        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getTriedQuizzes(userId).stream()
-                .collect(Collectors.toMap(
-                        triedQuiz ->
-                                triedQuiz.getQuiz().getId(),
-                                TriedQuiz::getIsSolved
-                ));
+        List<Long> quizIds = quizzes.map(Quiz::getId).getContent();
+        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(userId, quizIds);
 
         return quizzes.map(quiz -> {
             Boolean isSolved = triedQuizzes.getOrDefault(quiz.getId(), null);
@@ -144,6 +144,31 @@ public class QuizService {
         });
     }
 
+    @Transactional(readOnly = true)
+    public QuizCursorRes getQuizzesByCursor(Long userId, String keyword, Long subjectId, QuizSortType sort, String cursor, int size) {
+
+        QuizCursor quizCursor = (cursor == null || cursor.isBlank()) ? null : QuizCursor.decode(cursor, sort);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 count 쿼리 없이 판단
+        List<Quiz> quizzes = quizRepository.getQuizzesByCursor(keyword, subjectId, sort, quizCursor, size + 1);
+
+        boolean hasNext = quizzes.size() > size;
+        if (hasNext) {
+            quizzes = quizzes.subList(0, size);
+        }
+
+        List<Long> quizIds = quizzes.stream().map(Quiz::getId).toList();
+        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(userId, quizIds);
+
+        List<QuizSummaryRes> quizList = quizzes.stream()
+                .map(quiz -> QuizSummaryRes.fromEntity(quiz, triedQuizzes.get(quiz.getId())))
+                .toList();
+
+        String nextCursor = hasNext ? QuizCursor.of(sort, quizzes.get(quizzes.size() - 1)).encode() : null;
+
+        return QuizCursorRes.of(quizList, nextCursor, hasNext);
+    }
+
     @Transactional(readOnly = true)
     public Page<QuizSummaryRes> getQuizzesByWriter(Long userId, QuizSortType sort, Integer page) {
         User user = findUserByUserId(userId);
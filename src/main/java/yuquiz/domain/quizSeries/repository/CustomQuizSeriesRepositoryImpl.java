@@ -4,9 +4,11 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.quiz.entity.Quiz;
+import yuquiz.domain.quizSeries.entity.QuizSeries;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,9 +20,11 @@ import static yuquiz.domain.quizSeries.entity.QQuizSeries.quizSeries;
 public class CustomQuizSeriesRepositoryImpl implements CustomQuizSeriesRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCountCache pageCountCache;
 
-    public CustomQuizSeriesRepositoryImpl(EntityManager entityManager) {
+    public CustomQuizSeriesRepositoryImpl(EntityManager entityManager, PageCountCache pageCountCache) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.pageCountCache = pageCountCache;
     }
 
     @Override
@@ -35,14 +39,14 @@ public class CustomQuizSeriesRepositoryImpl implements CustomQuizSeriesRepositor
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = Optional.ofNullable(jpaQueryFactory
-                .select(quiz.count())
-                .from(quizSeries)
-                .join(quizSeries.quiz, quiz)
-                .where(quizSeries.series.id.eq(seriesId))
-                .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(quizzes, pageable, total);
+        return PageableExecutionUtils.getPage(quizzes, pageable, () -> pageCountCache.getCount(
+                QuizSeries.class, "series=" + seriesId, null,
+                () -> Optional.ofNullable(jpaQueryFactory
+                        .select(quiz.count())
+                        .from(quizSeries)
+                        .join(quizSeries.quiz, quiz)
+                        .where(quizSeries.series.id.eq(seriesId))
+                        .fetchOne()
+                ).orElse(0L)));
     }
 }
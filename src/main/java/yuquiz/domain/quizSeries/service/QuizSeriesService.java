@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yuquiz.common.exception.CustomException;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.quiz.dto.quiz.QuizSortType;
 import yuquiz.domain.quiz.dto.quiz.QuizSummaryRes;
 import yuquiz.domain.quiz.entity.Quiz;
@@ -21,6 +22,9 @@ import yuquiz.domain.series.exception.SeriesExceptionCode;
 import yuquiz.domain.series.repository.SeriesRepository;
 import yuquiz.domain.studyUser.repository.StudyUserRepository;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class QuizSeriesService {
@@ -30,6 +34,7 @@ public class QuizSeriesService {
     private final SeriesRepository seriesRepository;
     private final TriedQuizRepository triedQuizRepository;
     private final StudyUserRepository studyUserRepository;
+    private final PageCountCache pageCountCache;
 
     private static final int QUIZ_PER_PAGE = 20;
 
@@ -42,12 +47,10 @@ public class QuizSeriesService {
         Pageable pageable = PageRequest.of(page, QUIZ_PER_PAGE);
         Page<Quiz> quizzes = quizSeriesRepository.getQuizzesBySeriesId(seriesId, pageable, QuizSortType.DATE_DESC.getOrder());
 
-        return quizzes.map(quiz -> {
-            Boolean isSolved = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_Id(userId, quiz.getId())
-                    .orElse(null);
+        List<Long> quizIds = quizzes.map(Quiz::getId).getContent();
+        Map<Long, Boolean> triedQuizzes = triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(userId, quizIds);
 
-            return QuizSummaryRes.fromEntity(quiz, isSolved);
-        });
+        return quizzes.map(quiz -> QuizSummaryRes.fromEntity(quiz, triedQuizzes.get(quiz.getId())));
     }
 
     @Transactional
@@ -73,6 +76,7 @@ public class QuizSeriesService {
                 .build();
 
         quizSeriesRepository.save(quizSeries);
+        pageCountCache.evict(QuizSeries.class);
     }
 
     @Transactional
@@ -83,6 +87,7 @@ public class QuizSeriesService {
         }
 
         quizSeriesRepository.deleteBySeries_IdAndQuiz_Id(seriesId, quizId);
+        pageCountCache.evict(QuizSeries.class);
     }
 
     private boolean validateCreator(Long seriesId, Long userId) {
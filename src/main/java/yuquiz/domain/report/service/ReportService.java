@@ -1,11 +1,12 @@
 package yuquiz.domain.report.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yuquiz.common.exception.CustomException;
 import yuquiz.domain.notification.dto.NotificationType;
-import yuquiz.domain.notification.service.NotificationService;
+import yuquiz.domain.notification.event.NotificationEvent;
 import yuquiz.domain.quiz.entity.Quiz;
 import yuquiz.domain.quiz.exception.QuizExceptionCode;
 import yuquiz.domain.quiz.repository.QuizRepository;
@@ -26,7 +27,7 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final QuizRepository quizRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void reportQuiz(Long quizId, ReportReq reportReq, Long userId) {
@@ -61,6 +62,6 @@ public class ReportService {
         String content = "\"" + quiz.getTitle() + "\" 퀴즈에 대한 신고가 있습니다.";
         String url = "/quiz/play/" + quiz.getId();
 
-        notificationService.send(user, NotificationType.REPORT, content, url);
+        eventPublisher.publishEvent(NotificationEvent.of(user, NotificationType.REPORT, content, url));     // 커밋 후 비동기로 저장, 전송
     }
 }
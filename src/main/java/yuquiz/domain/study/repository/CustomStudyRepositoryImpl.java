@@ -5,21 +5,26 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.study.dto.StudyFilter;
 import yuquiz.domain.study.dto.StudySortType;
 import yuquiz.domain.study.entity.Study;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static yuquiz.domain.study.entity.QStudy.study;
 
 public class CustomStudyRepositoryImpl implements CustomStudyRepository{
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCountCache pageCountCache;
 
-    public CustomStudyRepositoryImpl(EntityManager entityManager) {
+    public CustomStudyRepositoryImpl(EntityManager entityManager, PageCountCache pageCountCache) {
         this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.pageCountCache = pageCountCache;
     }
 
     @Override
@@ -33,13 +38,22 @@ public class CustomStudyRepositoryImpl implements CustomStudyRepository{
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = jpaQueryFactory
-                .select(study.count())
-                .from(study)
-                .where(wordContain(keyword))
-                .fetchOne();
+        return PageableExecutionUtils.getPage(studies, pageable, () -> countStudies(keyword, filter));
+    }
 
-        return new PageImpl<>(studies, pageable, total);
+    private long countStudies(String keyword, StudyFilter filter) {
+        LongSupplier countQuery = () -> Optional.ofNullable(
+                jpaQueryFactory
+                        .select(study.count())
+                        .from(study)
+                        .where(wordContain(keyword), filter.getFilter())
+                        .fetchOne()
+        ).orElse(0L);
+
+        if (wordContain(keyword) == null && filter.getFilter() == null) {
+            return pageCountCache.getUnfilteredCount(Study.class, countQuery);
+        }
+        return pageCountCache.getCount(Study.class, "filter=" + filter.name(), keyword, countQuery);
     }
 
     private BooleanExpression wordContain(String keyword) {
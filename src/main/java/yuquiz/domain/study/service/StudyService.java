@@ -1,17 +1,20 @@
 package yuquiz.domain.study.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yuquiz.common.exception.CustomException;
+import yuquiz.common.utils.counter.PageCountCache;
 import yuquiz.domain.chatRoom.entity.ChatRoom;
 import yuquiz.domain.chatRoom.exception.ChatRoomExceptionCode;
 import yuquiz.domain.chatRoom.repository.ChatRoomRepository;
+import yuquiz.domain.chatRoom.service.ChatRoomService;
 import yuquiz.domain.notification.dto.NotificationType;
-import yuquiz.domain.notification.service.NotificationService;
+import yuquiz.domain.notification.event.NotificationEvent;
 import yuquiz.domain.post.dto.PostReq;
 import yuquiz.domain.post.dto.PostSortType;
 import yuquiz.domain.post.dto.PostSummaryRes;
@@ -52,11 +55,13 @@ public class StudyService {
     private final StudyUserRepository studyUserRepository;
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomService chatRoomService;
     private final SeriesService seriesService;
     private final PostService postService;
     private final StudyPostRepository studyPostRepository;
     private final PostRepository postRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PageCountCache pageCountCache;
 
     private final Integer POST_PER_PAGE = 20;
 
@@ -79,6 +84,7 @@ public class StudyService {
         studyRepository.save(study);
         chatRoomRepository.save(chatRoom);
         studyUserRepository.save(studyUser);
+        pageCountCache.evict(Study.class);
     }
 
     @Transactional
@@ -87,7 +93,14 @@ public class StudyService {
             throw new CustomException(StudyExceptionCode.UNAUTHORIZED_ACTION);
         }
 
+        // 삭제 전에 채팅방 참여자를 조회해 두고, 삭제 후 모든 서버의 WebSocket 세션에서 채팅방 권한 제거
+        List<StudyUser> members = studyUserRepository.findByStudyIdAndState(studyId, UserState.REGISTERED);
+
         studyRepository.deleteById(studyId);
+        pageCountCache.evict(Study.class);
+
+        members.forEach(member ->
+                chatRoomService.kickChatMember(member.getUser().getId(), member.getChatRoom().getId()));
     }
 
     @Transactional
@@ -225,6 +238,7 @@ public class StudyService {
                 .orElseThrow(() -> new CustomException(UserExceptionCode.INVALID_USERID));
 
         study.decreaseUser();
+        chatRoomService.kickChatMember(deleteId, study.getChatRoom().getId());
         studyNotification(study, user, NotificationType.STUDY_KICKED, "스터디에서 강제 퇴장 당했습니다.");
     }
 
@@ -289,6 +303,6 @@ public class StudyService {
         String message = "\"" + study.getStudyName() + "\"" + content;
         String url = "/study/" + study.getId();
 
-        notificationService.send(user, type, message, url);
+        eventPublisher.publishEvent(NotificationEvent.of(user, type, message, url));     // 커밋 후 비동기로 저장, 전송
     }
 }
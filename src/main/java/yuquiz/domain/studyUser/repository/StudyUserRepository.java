@@ -20,5 +20,7 @@ public interface StudyUserRepository extends JpaRepository<StudyUser, Long> {
 
     List<StudyUser> findByStudyIdAndState(Long studyId, UserState state);
 
+    List<StudyUser> findByUser_IdAndState(Long userId, UserState state);
+
     int deleteByStudy_IdAndUser_Id(Long studyId, Long userId);
 }
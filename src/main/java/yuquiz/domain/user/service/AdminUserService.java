@@ -1,6 +1,7 @@
 package yuquiz.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,12 +36,14 @@ public class AdminUserService {
     }
 
     @Transactional
+    @CacheEvict(value = "users", key = "#userId.toString()")
     public void deleteUser(Long userId) {
 
         userRepository.deleteById(userId);
     }
 
     @Transactional
+    @CacheEvict(value = "users", key = "#userId.toString()")
     public void updateSuspendStatus(Long userId, UserStatusReq status) {
 
         User user = userRepository.findById(userId).orElseThrow(()->
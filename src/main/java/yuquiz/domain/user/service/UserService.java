@@ -1,10 +1,15 @@
 package yuquiz.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yuquiz.common.exception.CustomException;
+import yuquiz.domain.chatRoom.service.ChatRoomService;
+import yuquiz.domain.studyUser.entity.StudyUser;
+import yuquiz.domain.studyUser.entity.UserState;
+import yuquiz.domain.studyUser.repository.StudyUserRepository;
 import yuquiz.domain.user.dto.req.PasswordReq;
 import yuquiz.domain.user.dto.req.PasswordUpdateReq;
 import yuquiz.domain.user.dto.req.UserUpdateReq;
@@ -13,12 +18,16 @@ import yuquiz.domain.user.entity.User;
 import yuquiz.domain.user.exception.UserExceptionCode;
 import yuquiz.domain.user.repository.UserRepository;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StudyUserRepository studyUserRepository;
+    private final ChatRoomService chatRoomService;
 
     /* 사용자 정보 불러오기 */
     @Transactional(readOnly = true)
@@ -29,6 +38,7 @@ public class UserService {
 
     /* 사용자 정보 업데이트 */
     @Transactional
+    @CacheEvict(value = "users", key = "#userId.toString()")
     public void updateUserInfo(UserUpdateReq updateReq, Long userId) {
 
         User foundUser = findUserByUserId(userId);
@@ -39,6 +49,7 @@ public class UserService {
 
     /* 비밀번호 변경 */
     @Transactional
+    @CacheEvict(value = "users", key = "#userId.toString()")
     public void updatePassword(PasswordUpdateReq passwordReq, Long userId) {
 
         User foundUser = findUserByUserId(userId);
@@ -58,11 +69,17 @@ public class UserService {
         return checkPassword(passwordReq.password(), currentPassword);
     }
 
-    /* 사용자 정보 삭제 */
+    /* 사용자 정보 삭제, 참여 중인 스터디 채팅방의 WebSocket 세션 권한도 제거 */
     @Transactional
+    @CacheEvict(value = "users", key = "#userId.toString()")
     public void deleteUserInfo(Long userId) {
 
+        List<StudyUser> memberships = studyUserRepository.findByUser_IdAndState(userId, UserState.REGISTERED);
+
         userRepository.deleteById(userId);
+
+        memberships.forEach(membership ->
+                chatRoomService.kickChatMember(userId, membership.getChatRoom().getId()));
     }
 
     /* 아이디 중복 확인 */
@@ -0,0 +1,51 @@
+package yuquiz.security.token.blacklist;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 토큰 digest(SHA-256)에 대한 Bloom filter.
+ * digest 자체가 균등 분포이므로 앞 16바이트를 두 개의 해시로 나눠 double hashing으로 k개의 위치를 만든다.
+ * 비트는 AtomicLongArray에 저장해 별도 잠금 없이 여러 스레드에서 추가/조회할 수 있다.
+ */
+public class BlackListBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BlackListBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong();
+        long hash2 = buffer.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << (index & 63);
+            bits.getAndUpdate((int) (index >>> 6), word -> word | mask);
+        }
+    }
+
+    /* false면 확실히 없음, true면 있을 수 있음 */
+    public boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong();
+        long hash2 = buffer.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package yuquiz.security.token.blacklist;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import yuquiz.common.utils.jwt.TokenDigest;
+import yuquiz.common.utils.redis.RedisUtil;
+
+import static yuquiz.common.utils.redis.RedisProperties.BLACKLIST_KEY_PREFIX;
+
+/**
+ * JWT 원문을 key로 쓰던 기존 블랙리스트 항목을 digest key로 옮긴다.
+ * 남은 만료 시간은 그대로 유지하며, 블랙리스트 filter 재생성 시 SCAN 중에 발견한 항목을 변환한다.
+ * 배포 중 아직 원문 key를 조회하는 이전 버전 서버가 있을 수 있으므로 기존 key는 지우지 않고 자체 만료시간에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlackListKeyMigrator {
+
+    private final RedisUtil redisUtil;
+
+    /* JWT는 '.'을 포함하고 base64url digest는 포함하지 않음 */
+    public boolean isLegacyKey(String key) {
+        return key.indexOf('.', BLACKLIST_KEY_PREFIX.length()) >= 0;
+    }
+
+    /* 기존 key를 digest key로 복사하고 digest 반환, 이미 만료되었으면 null */
+    public byte[] migrate(String legacyKey) {
+        String accessToken = legacyKey.substring(BLACKLIST_KEY_PREFIX.length());
+        byte[] digest = TokenDigest.truncatedSha256(accessToken);
+
+        // 조회, 남은 만료시간 확인, 저장을 Lua script 한 번으로 처리해 중간에 만료되어도 만료시간 없는 key가 남지 않도록 함
+        String key = BlackListTokenService.toKey(digest);
+        if (!redisUtil.copyWithTtl(legacyKey, key)) {       // 그 사이에 만료됨
+            return null;
+        }
+
+        log.debug("Copied legacy blacklist key to {}", key);
+        return digest;
+    }
+}
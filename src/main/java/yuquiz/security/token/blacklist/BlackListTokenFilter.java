@@ -0,0 +1,137 @@
+package yuquiz.security.token.blacklist;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yuquiz.common.utils.jwt.TokenDigest;
+import yuquiz.common.utils.redis.RedisUtil;
+
+import java.nio.charset.StandardCharsets;
+
+import static yuquiz.common.utils.redis.RedisProperties.BLACKLIST_KEY_PREFIX;
+
+/**
+ * 블랙리스트 확인 전에 Redis 왕복을 줄이기 위한 노드별 Bloom filter.
+ * 다른 노드의 블랙리스트 등록은 Redis pub/sub으로 전달받고,
+ * 시작 시와 주기적으로 Redis의 블랙리스트 키를 SCAN해 다시 만든다 (Bloom filter는 만료된 항목을 지울 수 없으므로).
+ * 처음 만들어지기 전까지는 모든 토큰을 Redis에서 확인한다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class BlackListTokenFilter implements MessageListener {
+
+    public static final String BLACKLIST_TOPIC = "blacklist";
+
+    private final RedisUtil redisUtil;
+    private final BlackListKeyMigrator blackListKeyMigrator;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Object swapLock = new Object();          // add와 filter 교체가 엇갈려 새 filter에 항목이 빠지지 않도록 함
+    private volatile BlackListBloomFilter current;
+    private volatile BlackListBloomFilter rebuilding;      // 재생성 중 들어온 항목을 놓치지 않도록 함께 추가
+
+    public BlackListTokenFilter(RedisUtil redisUtil,
+                                BlackListKeyMigrator blackListKeyMigrator,
+                                @Value("${token.blacklist.bloom-filter.expected-insertions}") long expectedInsertions,
+                                @Value("${token.blacklist.bloom-filter.false-positive-rate}") double falsePositiveRate) {
+        this.redisUtil = redisUtil;
+        this.blackListKeyMigrator = blackListKeyMigrator;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /* 블랙리스트에 있을 가능성이 있는지, 아직 준비되지 않았으면 항상 true */
+    public boolean mightContain(byte[] digest) {
+        BlackListBloomFilter filter = current;
+        return filter == null || filter.mightContain(digest);
+    }
+
+    public void add(byte[] digest) {
+        synchronized (swapLock) {
+            BlackListBloomFilter filter = current;
+            if (filter != null) {
+                filter.put(digest);
+            }
+
+            BlackListBloomFilter next = rebuilding;
+            if (next != null) {
+                next.put(digest);
+            }
+        }
+    }
+
+    /* 다른 노드에서 등록한 블랙리스트 digest 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            add(TokenDigest.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid blacklist digest message: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /* 만료되어 Redis에서 사라진 토큰을 filter에서도 제거하기 위해 주기적으로 재생성 */
+    @Scheduled(fixedDelayString = "${token.blacklist.bloom-filter.rebuild-interval}",
+            initialDelayString = "${token.blacklist.bloom-filter.rebuild-interval}")
+    public synchronized void rebuild() {
+        BlackListBloomFilter next = new BlackListBloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (swapLock) {
+            rebuilding = next;
+        }
+
+        try {
+            int count = 0;
+            for (String key : redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")) {
+                byte[] digest = toDigest(key);
+                if (digest != null) {
+                    next.put(digest);
+                    count++;
+                }
+            }
+
+            synchronized (swapLock) {
+                current = next;
+                rebuilding = null;
+            }
+            log.info("Rebuilt blacklist bloom filter with {} tokens", count);
+        } catch (RuntimeException e) {
+            // 실패 시 기존 filter 유지, 최초 생성 전이면 계속 Redis로 확인
+            log.error("Failed to rebuild blacklist bloom filter: {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    /* key에서 digest 추출, 토큰 원문을 key로 쓰던 기존 항목은 digest key로 옮김 */
+    private byte[] toDigest(String key) {
+        if (blackListKeyMigrator.isLegacyKey(key)) {
+            return blackListKeyMigrator.migrate(key);
+        }
+
+        try {
+            byte[] digest = TokenDigest.decode(key.substring(BLACKLIST_KEY_PREFIX.length()));
+            if (digest.length == TokenDigest.TRUNCATED_LENGTH) {
+                return digest;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        log.error("Invalid blacklist key: {}", key);
+        return null;
+    }
+}
@@ -1,7 +1,9 @@
 package yuquiz.security.token.blacklist;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import yuquiz.common.utils.jwt.TokenDigest;
 import yuquiz.common.utils.redis.RedisUtil;
 
 import java.time.Duration;
@@ -13,22 +15,39 @@ import static yuquiz.common.utils.redis.RedisProperties.BLACKLIST_KEY_PREFIX;
 @RequiredArgsConstructor
 public class BlackListTokenService {
 
+    public static final int BLACKLIST_VALUE = 1;        // 존재 여부만 확인하므로 값은 사용하지 않음
+
     private final RedisUtil redisUtil;
+    private final BlackListTokenFilter blackListTokenFilter;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    /* redis에 저장 */
+    /* redis에 저장. 토큰 원문 대신 고정 길이 digest를 key로 사용 */
     public void saveBlackList(String accessToken, LocalDateTime expireAt) {
 
-        String key = BLACKLIST_KEY_PREFIX + accessToken;
+        byte[] digest = TokenDigest.truncatedSha256(accessToken);
+        String key = toKey(digest);
         LocalDateTime now = LocalDateTime.now();
         long timeToLive = Duration.between(now, expireAt).toSeconds();
 
-        redisUtil.set(key, accessToken);
+        redisUtil.set(key, BLACKLIST_VALUE);
         redisUtil.expire(key, timeToLive);
+
+        // 현재 노드에 바로 반영하고 다른 노드에 전파
+        blackListTokenFilter.add(digest);
+        stringRedisTemplate.convertAndSend(BlackListTokenFilter.BLACKLIST_TOPIC, TokenDigest.encode(digest));
     }
 
-    /* 블랙리스트 확인. */
+    /* 블랙리스트 확인. Bloom filter에 없으면 Redis 조회 생략 */
     public boolean existsBlackListCheck(String accessToken) {
-        return redisUtil.existed(BLACKLIST_KEY_PREFIX + accessToken);
+        byte[] digest = TokenDigest.truncatedSha256(accessToken);
+
+        if (!blackListTokenFilter.mightContain(digest)) {
+            return false;
+        }
+        return redisUtil.existed(toKey(digest));
     }
 
+    public static String toKey(byte[] digest) {
+        return BLACKLIST_KEY_PREFIX + TokenDigest.encode(digest);
+    }
 }
@@ -0,0 +1,159 @@
+package yuquiz.auth.blacklist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yuquiz.common.utils.jwt.TokenDigest;
+import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.security.token.blacklist.BlackListKeyMigrator;
+import yuquiz.security.token.blacklist.BlackListTokenFilter;
+import yuquiz.security.token.blacklist.BlackListTokenService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static yuquiz.common.utils.redis.RedisProperties.BLACKLIST_KEY_PREFIX;
+
+@ExtendWith(MockitoExtension.class)
+public class BlackListTokenFilterTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    private BlackListTokenFilter blackListTokenFilter;
+
+    @BeforeEach
+    void setUp() {
+        blackListTokenFilter = new BlackListTokenFilter(redisUtil, new BlackListKeyMigrator(redisUtil), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("처음 만들어지기 전에는 모든 토큰을 Redis에서 확인")
+    void mightContainBeforeRebuildTest() {
+        // when
+        boolean result = blackListTokenFilter.mightContain(TokenDigest.truncatedSha256("token"));
+
+        // then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Redis의 블랙리스트 키로 재생성 후 등록된 토큰만 통과")
+    void rebuildTest() {
+        // given
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of(BlackListTokenService.toKey(TokenDigest.truncatedSha256("blocked"))));
+
+        // when
+        blackListTokenFilter.rebuild();
+
+        // then
+        assertTrue(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256("blocked")));
+        assertFalse(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256("valid")));
+    }
+
+    @Test
+    @DisplayName("재생성 후 추가된 토큰 반영")
+    void addAfterRebuildTest() {
+        // given
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of());
+        blackListTokenFilter.rebuild();
+
+        // when
+        blackListTokenFilter.add(TokenDigest.truncatedSha256("logout"));
+
+        // then
+        assertTrue(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256("logout")));
+    }
+
+    @Test
+    @DisplayName("토큰 원문을 key로 쓰던 기존 항목은 남은 만료 시간을 유지한 채 digest key로 복사하고 기존 key는 유지")
+    void migrateLegacyKeyTest() {
+        // given
+        String accessToken = "header.payload.signature";
+        String legacyKey = BLACKLIST_KEY_PREFIX + accessToken;
+        String key = BlackListTokenService.toKey(TokenDigest.truncatedSha256(accessToken));
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of(legacyKey));
+        when(redisUtil.copyWithTtl(legacyKey, key)).thenReturn(true);
+
+        // when
+        blackListTokenFilter.rebuild();
+
+        // then
+        verify(redisUtil, times(1)).copyWithTtl(legacyKey, key);
+        verify(redisUtil, never()).del(legacyKey);
+        assertTrue(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256(accessToken)));
+    }
+
+    @Test
+    @DisplayName("복사 전에 만료된 기존 항목은 filter에 추가하지 않음")
+    void migrateExpiredLegacyKeyTest() {
+        // given
+        String accessToken = "header.payload.signature";
+        String legacyKey = BLACKLIST_KEY_PREFIX + accessToken;
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of(legacyKey));
+        when(redisUtil.copyWithTtl(eq(legacyKey), anyString())).thenReturn(false);
+
+        // when
+        blackListTokenFilter.rebuild();
+
+        // then
+        assertFalse(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256(accessToken)));
+    }
+
+    @Test
+    @DisplayName("재생성 중(교체 직전 포함)에 추가된 토큰도 교체된 filter에 남음")
+    void addDuringRebuildTest() throws InterruptedException {
+        // given
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenReturn(List.of());
+        blackListTokenFilter.rebuild();
+
+        int tokenCount = 20000;
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (adding.get()) {
+                blackListTokenFilter.rebuild();
+            }
+        });
+
+        // when
+        rebuilder.start();
+        for (int i = 0; i < tokenCount; i++) {
+            blackListTokenFilter.add(TokenDigest.truncatedSha256("logout" + i));
+        }
+        adding.set(false);
+        rebuilder.join();
+
+        // then
+        for (int i = 0; i < tokenCount; i++) {
+            assertTrue(blackListTokenFilter.mightContain(TokenDigest.truncatedSha256("logout" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Redis를 읽는 도중 추가된 토큰은 새 filter에도 추가")
+    void addWhileScanningTest() {
+        // given
+        byte[] digest = TokenDigest.truncatedSha256("logout");
+        when(redisUtil.scanKeys(BLACKLIST_KEY_PREFIX + "*")).thenAnswer(invocation -> {
+            blackListTokenFilter.add(digest);     // SCAN 이후 등록되어 결과에 없는 토큰
+            return List.of();
+        });
+
+        // when
+        blackListTokenFilter.rebuild();
+
+        // then
+        assertTrue(blackListTokenFilter.mightContain(digest));
+    }
+}
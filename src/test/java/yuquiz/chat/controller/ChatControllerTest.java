@@ -13,6 +13,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import yuquiz.domain.chatRoom.controller.ChatController;
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageCursorRes;
 import yuquiz.domain.chatRoom.dto.MessageType;
 import yuquiz.domain.chatRoom.service.ChatMessageService;
 
@@ -65,7 +66,7 @@ public class ChatControllerTest {
     @DisplayName("일간 채팅 메시지 불러오기 테스트")
     void getDailyMessageTest() throws Exception {
         // given
-        given(chatMessageService.fetchMessagesFromRedis(roomId)).willReturn(messages);
+        given(chatMessageService.fetchDailyMessages(roomId)).willReturn(messages);
 
         // when
         ResultActions resultActions = mockMvc.perform(
@@ -115,4 +116,50 @@ public class ChatControllerTest {
                 .andExpect(jsonPath("$[1].content").value("내용2"));
     }
 
+    @Test
+    @DisplayName("이전 채팅 메시지 커서 조회 테스트")
+    void getMessageHistoryTest() throws Exception {
+        // given
+        MessageCursorRes messageCursorRes = MessageCursorRes.of(messages, "nextCursor", true);
+        given(chatMessageService.fetchMessagesBefore(roomId, null, 50)).willReturn(messageCursorRes);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/api/v1/chat/{roomId}/messages/history", roomId)
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages[0].content").value("내용1"))
+                .andExpect(jsonPath("$.messages[1].content").value("내용2"))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("최근 채팅 메시지 조회 테스트")
+    void getRecentMessagesTest() throws Exception {
+        // given
+        MessageCursorRes messageCursorRes = MessageCursorRes.of(messages, "nextCursor", true);
+        given(chatMessageService.fetchRecentMessages(roomId, 30)).willReturn(messageCursorRes);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/api/v1/chat/{roomId}/messages/recent", roomId)
+                        .param("size", "30")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages[0].content").value("내용1"))
+                .andExpect(jsonPath("$.messages[1].content").value("내용2"))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
 }
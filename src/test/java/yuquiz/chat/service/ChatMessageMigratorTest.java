@@ -0,0 +1,126 @@
+package yuquiz.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageType;
+import yuquiz.domain.chatRoom.entity.ChatRoom;
+import yuquiz.domain.chatRoom.entity.DailyChatMessage;
+import yuquiz.domain.chatRoom.repository.ChatMessageRepository;
+import yuquiz.domain.chatRoom.repository.DailyChatMessageRepository;
+import yuquiz.domain.chatRoom.service.ChatMessageMigrator;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static yuquiz.common.utils.redis.RedisProperties.MIGRATION_LOCK_KEY;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageMigratorTest {
+
+    @Mock
+    private DailyChatMessageRepository dailyChatMessageRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    private ChatMessageMigrator chatMessageMigrator;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageMigrator = new ChatMessageMigrator(dailyChatMessageRepository, chatMessageRepository,
+                transactionTemplate, redisUtil, true, 60);
+    }
+
+    @Test
+    @DisplayName("락을 가진 서버만 기존 메시지를 옮기고 끝나면 락 해제")
+    @SuppressWarnings("unchecked")
+    void migrateTest() {
+        // given
+        Message message = new Message("1", "테스터1", 1L, "내용1", "2024-11-05 12:00:00", MessageType.TALK);
+        DailyChatMessage dailyMessage = createDailyMessage(List.of(message));
+
+        given(redisUtil.setIfAbsent(eq(MIGRATION_LOCK_KEY), anyString(), anyLong())).willReturn(true);
+        given(redisUtil.expireIfEquals(eq(MIGRATION_LOCK_KEY), anyString(), anyLong())).willReturn(true);
+        given(dailyChatMessageRepository.findTop100ByIdGreaterThanOrderByIdAsc(0L)).willReturn(List.of(dailyMessage));
+        given(dailyChatMessageRepository.findTop100ByIdGreaterThanOrderByIdAsc(10L)).willReturn(List.of());
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        chatMessageMigrator.migrate();
+
+        // then
+        verify(chatMessageRepository, times(1)).insertMessages(1L, List.of(message));
+        verify(dailyChatMessageRepository, times(1)).delete(dailyMessage);
+        verify(redisUtil, times(1)).deleteIfEquals(eq(MIGRATION_LOCK_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 옮기는 중이면 실행하지 않음")
+    void migrateLockedTest() {
+        // given
+        given(redisUtil.setIfAbsent(eq(MIGRATION_LOCK_KEY), anyString(), anyLong())).willReturn(false);
+
+        // when
+        chatMessageMigrator.migrate();
+
+        // then
+        verifyNoInteractions(dailyChatMessageRepository, chatMessageRepository, transactionTemplate);
+        verify(redisUtil, never()).deleteIfEquals(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("락이 만료되어 다른 서버가 가져갔으면 중단")
+    void migrateLostLockTest() {
+        // given
+        DailyChatMessage dailyMessage = mock(DailyChatMessage.class);
+
+        given(redisUtil.setIfAbsent(eq(MIGRATION_LOCK_KEY), anyString(), anyLong())).willReturn(true);
+        given(redisUtil.expireIfEquals(eq(MIGRATION_LOCK_KEY), anyString(), anyLong())).willReturn(false);
+        given(dailyChatMessageRepository.findTop100ByIdGreaterThanOrderByIdAsc(0L)).willReturn(List.of(dailyMessage));
+
+        // when
+        chatMessageMigrator.migrate();
+
+        // then
+        verifyNoInteractions(chatMessageRepository, transactionTemplate);
+    }
+
+    private DailyChatMessage createDailyMessage(List<Message> messages) {
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        given(chatRoom.getId()).willReturn(1L);
+
+        DailyChatMessage dailyMessage = mock(DailyChatMessage.class);
+        given(dailyMessage.getId()).willReturn(10L);
+        given(dailyMessage.getChatRoom()).willReturn(chatRoom);
+        given(dailyMessage.getMessages()).willReturn(messages);
+        return dailyMessage;
+    }
+}
@@ -1,40 +1,72 @@
 package yuquiz.chat.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 import yuquiz.common.exception.CustomException;
 import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+import yuquiz.domain.chatRoom.converter.ChatMessageCodec;
 import yuquiz.domain.chatRoom.dto.Message;
+import yuquiz.domain.chatRoom.dto.MessageCursor;
+import yuquiz.domain.chatRoom.dto.MessageCursorRes;
 import yuquiz.domain.chatRoom.dto.MessageType;
 import yuquiz.domain.chatRoom.entity.ChatMessage;
-import yuquiz.domain.chatRoom.entity.ChatRoom;
 import yuquiz.domain.chatRoom.exception.ChatRoomExceptionCode;
 import yuquiz.domain.chatRoom.repository.ChatMessageRepository;
 import yuquiz.domain.chatRoom.repository.ChatRoomRepository;
 import yuquiz.domain.chatRoom.service.ChatMessageService;
+import yuquiz.domain.chatRoom.websocket.ChatBroadcaster;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static yuquiz.common.utils.redis.RedisProperties.ACTIVE_ROOM_KEY;
+import static yuquiz.common.utils.redis.RedisProperties.CHAT_TOPIC_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.DEAD_MESSAGE_EXPIRATION_TIME;
+import static yuquiz.common.utils.redis.RedisProperties.DEAD_MESSAGE_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_EXPIRATION_TIME;
 import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.RECENT_MESSAGE_LIMIT;
+import static yuquiz.common.utils.redis.RedisProperties.RECENT_MESSAGE_PREFIX;
 
 @ExtendWith(MockitoExtension.class)
 public class ChatMessageServiceTest {
@@ -48,6 +80,18 @@ public class ChatMessageServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
+    @Mock
+    private ChatBrokerConfig chatBrokerConfig;
+
+    @Mock
+    private ChatBroadcaster chatBroadcaster;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ChatMessageCodec chatMessageCodec = new ChatMessageCodec(new ObjectMapper());
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -76,23 +120,21 @@ public class ChatMessageServiceTest {
     @DisplayName("메시지 DB 저장 테스트")
     void saveMessageInDBTest() {
         // given
-        ChatRoom chatRoom = ChatRoom.builder().build();
-        given(chatRoomRepository.findById(roomId)).willReturn(Optional.ofNullable(chatRoom));
+        given(chatRoomRepository.existsById(roomId)).willReturn(true);
 
         // when
         chatMessageService.saveMessageInDB(roomId, messages);
 
         // then
-        verify(chatRoomRepository, times(1)).findById(roomId);
-        verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
+        verify(chatRoomRepository, times(1)).existsById(roomId);
+        verify(chatMessageRepository, times(1)).insertMessages(roomId, messages);
     }
 
     @Test
     @DisplayName("메시지 DB 저장 실패 테스트 - 채팅방 존재 x")
     void saveMessageInDBFailedByNotFoundChatRoomTest() {
         // given
-        when(chatRoomRepository.findById(roomId))
-                .thenThrow(new CustomException(ChatRoomExceptionCode.INVALID_ID));
+        given(chatRoomRepository.existsById(roomId)).willReturn(false);
 
         // when
         CustomException exception = assertThrows(CustomException.class, () -> {
@@ -102,7 +144,8 @@ public class ChatMessageServiceTest {
         // then
         assertEquals(ChatRoomExceptionCode.INVALID_ID.getMessage(), exception.getMessage());
         assertEquals(ChatRoomExceptionCode.INVALID_ID.getStatus(), exception.getStatus());
-        verify(chatRoomRepository, times(1)).findById(roomId);
+        verify(chatRoomRepository, times(1)).existsById(roomId);
+        verify(chatMessageRepository, never()).insertMessages(any(), any());
     }
 
     @Test
@@ -128,16 +171,90 @@ public class ChatMessageServiceTest {
     }
 
     @Test
-    @DisplayName("Redis에 메시지 저장")
-    void saveMessageInRedisTest() {
+    @DisplayName("Redis에 메시지 저장과 발행을 하나의 pipeline으로 전송")
+    @SuppressWarnings("unchecked")
+    void saveAndPublishMessageTest() {
         // given
-        String key = MESSAGE_PREFIX + roomId;
+        byte[] key = (MESSAGE_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] recentKey = (RECENT_MESSAGE_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] activeRoomKey = ACTIVE_ROOM_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] channel = (CHAT_TOPIC_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] member = "1".getBytes(StandardCharsets.UTF_8);
+
+        when(redisUtil.rawKey(anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8));
+        when(redisUtil.rawValue(roomId)).thenReturn(member);
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        RedisSetCommands setCommands = mock(RedisSetCommands.class);
+        when(connection.listCommands()).thenReturn(listCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.setCommands()).thenReturn(setCommands);
+
+        byte[] payload = chatMessageService.encodeMessage(message1);
 
         // when
-        chatMessageService.saveMessageInRedis(roomId, message1);
+        chatMessageService.saveAndPublishMessage(roomId, payload);
 
         // then
-        verify(redisUtil).setList(eq(key), any(Message.class));
+        ArgumentCaptor<Consumer<RedisConnection>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisUtil, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(connection);
+
+        verify(listCommands).rPush(key, payload);
+        verify(keyCommands, never()).expire(key, MESSAGE_EXPIRATION_TIME);         // 저장 대기 list는 만료되지 않음
+        verify(listCommands).rPush(recentKey, payload);
+        verify(listCommands).lTrim(recentKey, -(RECENT_MESSAGE_LIMIT + 1), -1);
+        verify(keyCommands).expire(recentKey, MESSAGE_EXPIRATION_TIME);
+        verify(setCommands).sAdd(activeRoomKey, member);
+        verify(connection).publish(channel, payload);                  // 같은 bytes를 저장과 발행에 사용
+        verify(chatMessageCodec, times(1)).encode(message1);
+        verify(chatBroadcaster, never()).sendToRoom(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("relay 모드에서는 Redis로 발행하지 않고 broker로 바로 전송")
+    void saveAndPublishMessageRelayTest() {
+        // given
+        when(chatBrokerConfig.isRelay()).thenReturn(true);
+        when(redisUtil.rawKey(anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8));
+        when(redisUtil.rawValue(roomId)).thenReturn("1".getBytes(StandardCharsets.UTF_8));
+
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.listCommands()).thenReturn(mock(RedisListCommands.class));
+        when(connection.keyCommands()).thenReturn(mock(RedisKeyCommands.class));
+        when(connection.setCommands()).thenReturn(mock(RedisSetCommands.class));
+
+        byte[] payload = chatMessageService.encodeMessage(message1);
+
+        // when
+        chatMessageService.saveAndPublishMessage(roomId, payload);
+
+        // then
+        ArgumentCaptor<Consumer<RedisConnection>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisUtil, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(connection);
+
+        verify(connection, never()).publish(any(), any());
+        verify(chatBroadcaster, times(1)).sendToRoom("1", payload);
+    }
+
+    @Test
+    @DisplayName("이전 형식(@class 포함)으로 저장된 메시지도 읽기")
+    void decodeLegacyMessageTest() {
+        // given
+        byte[] legacy = ("{\"@class\":\"yuquiz.domain.chatRoom.dto.Message\",\"roomId\":\"1\",\"sender\":\"테스터1\","
+                + "\"userId\":1,\"content\":\"내용1\",\"createdAt\":\"2024-11-05 12:00:00\",\"type\":\"TALK\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Message message = chatMessageCodec.decode(legacy);
+
+        // then
+        assertEquals(message1, message);
     }
 
     @Test
@@ -146,11 +263,10 @@ public class ChatMessageServiceTest {
         // given
         String key = MESSAGE_PREFIX + roomId;
 
-        when(redisUtil.getList(key)).
+        when(redisUtil.getRawList(key, 0, -1)).
                 thenReturn(
                         messages.stream()
-                                .map(msg ->
-                                        (Object) msg)
+                                .map(chatMessageCodec::encode)
                                 .collect(Collectors.toList())
                 );
 
@@ -170,26 +286,302 @@ public class ChatMessageServiceTest {
     }
 
     @Test
-    @DisplayName("모든 채팅방의 Redis 메시지 불러오기 및 삭제")
-    void getAllMessagesGroupedByRoomIdTest() {
+    @DisplayName("Redis 메시지를 batch 크기만큼 DB에 저장한 뒤 제거")
+    void drainMessagesTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
+
+        when(redisUtil.getRawList(key, 0, 1)).thenReturn(encode(message1, message2));
+        given(chatRoomRepository.existsById(roomId)).willReturn(true);
+        givenTransaction();
+
+        // when
+        int drained = chatMessageService.drainMessages(roomId, 2);
+
+        // then
+        assertEquals(2, drained);
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(chatMessageRepository, times(1)).insertMessages(roomId, List.of(message1, message2));
+        verify(redisUtil, times(1)).removeListHead(key, 2);
+        verify(redisUtil, never()).executePipelined(any());
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 dead letter로 옮기고 나머지는 저장")
+    @SuppressWarnings("unchecked")
+    void drainMessagesWithInvalidPayloadTest() {
         // given
-        List<Long> roomIds = List.of(1L, 2L);
-        String key1 = MESSAGE_PREFIX + "1";
-        String key2 = MESSAGE_PREFIX + "2";
+        String key = MESSAGE_PREFIX + roomId;
+        byte[] deadKey = (DEAD_MESSAGE_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] invalid = "not a message".getBytes(StandardCharsets.UTF_8);
+        List<byte[]> payloads = new ArrayList<>(encode(message1));
+        payloads.add(invalid);
+
+        when(redisUtil.getRawList(key, 0, 1)).thenReturn(payloads);
+        when(redisUtil.rawKey(anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8));
+        given(chatRoomRepository.existsById(roomId)).willReturn(true);
+        givenTransaction();
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.listCommands()).thenReturn(listCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+
+        // when
+        int drained = chatMessageService.drainMessages(roomId, 2);
+
+        // then
+        ArgumentCaptor<Consumer<RedisConnection>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisUtil, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(connection);
+
+        assertEquals(2, drained);
+        verify(chatMessageRepository, times(1)).insertMessages(roomId, List.of(message1));
+        verify(listCommands).rPush(deadKey, invalid);
+        verify(keyCommands).expire(deadKey, DEAD_MESSAGE_EXPIRATION_TIME);
+        verify(redisUtil, times(1)).removeListHead(key, 2);
+    }
+
+    @Test
+    @DisplayName("삭제된 채팅방의 메시지는 DB에 저장하지 않고 dead letter로 옮김")
+    void drainMessagesOfDeletedRoomTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
 
-        when(redisUtil.getRoomIds()).thenReturn(roomIds);
-        when(redisUtil.getList(key1)).thenReturn(Collections.singletonList(message1));
-        when(redisUtil.getList(key2)).thenReturn(Collections.singletonList(message2));
+        when(redisUtil.getRawList(key, 0, 1)).thenReturn(encode(message1, message2));
+        when(redisUtil.rawKey(anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8));
+        given(chatRoomRepository.existsById(roomId)).willReturn(false);
+
+        // when
+        int drained = chatMessageService.drainMessages(roomId, 2);
+
+        // then
+        assertEquals(2, drained);
+        verify(chatMessageRepository, never()).insertMessages(anyLong(), any());
+        verify(redisUtil, times(1)).executePipelined(any());
+        verify(redisUtil, times(1)).removeListHead(key, 2);
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 메시지가 없는 채팅방은 목록에서 제거")
+    void deactivateRoomIfEmptyTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
+        when(redisUtil.getListSize(key)).thenReturn(0L);
 
         // when
-        Map<Long, List<Message>> result = chatMessageService.getAllMessagesGroupedByRoomId();
+        chatMessageService.deactivateRoomIfEmpty(roomId);
 
         // then
-        assertEquals(2, result.size());
-        assertEquals(List.of(message1), result.get(1L));
-        assertEquals(List.of(message2), result.get(2L));
+        verify(redisUtil, times(1)).removeSet(ACTIVE_ROOM_KEY, roomId);
+        verify(redisUtil, never()).addSet(ACTIVE_ROOM_KEY, roomId);
+    }
+
+    @Test
+    @DisplayName("제거하는 사이에 메시지가 들어온 채팅방은 다시 등록")
+    void deactivateRoomIfEmptyRaceTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
+        when(redisUtil.getListSize(key)).thenReturn(0L, 1L);
+
+        // when
+        chatMessageService.deactivateRoomIfEmpty(roomId);
+
+        // then
+        verify(redisUtil, times(1)).removeSet(ACTIVE_ROOM_KEY, roomId);
+        verify(redisUtil, times(1)).addSet(ACTIVE_ROOM_KEY, roomId);
+    }
+
+    @Test
+    @DisplayName("DB 저장 실패 시 Redis 메시지 유지")
+    void drainMessagesFailedTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
+
+        when(redisUtil.getRawList(key, 0, 1)).thenReturn(encode(message1, message2));
+        given(chatRoomRepository.existsById(roomId)).willReturn(true);
+        givenTransaction();
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(chatMessageRepository).insertMessages(roomId, List.of(message1, message2));
+
+        // when
+        assertThrows(DataAccessResourceFailureException.class, () -> chatMessageService.drainMessages(roomId, 2));
+
+        // then
+        verify(redisUtil, never()).removeListHead(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("오늘 메시지는 DB에 저장된 메시지 뒤에 Redis 메시지를 붙여서 반환")
+    void fetchDailyMessagesTest() {
+        // given
+        String key = MESSAGE_PREFIX + roomId;
+
+        given(chatMessageRepository.findMessagesByChatRoomIdAndDate(roomId, LocalDate.now())).willReturn(List.of(message1));
+        when(redisUtil.getRawList(key, 0, -1)).thenReturn(encode(message2));
+
+        // when
+        List<Message> result = chatMessageService.fetchDailyMessages(roomId);
+
+        // then
+        assertEquals(List.of(message1, message2), result);
+    }
+
+    @Test
+    @DisplayName("커서 이전 메시지를 size개만 오래된 순으로 반환")
+    void fetchMessagesBeforeTest() {
+        // given
+        ChatMessage latest = createChatMessage(3L, "내용3", LocalDateTime.of(2024, 11, 5, 12, 2));
+        ChatMessage middle = createChatMessage(2L, "내용2", LocalDateTime.of(2024, 11, 5, 12, 1));
+        ChatMessage oldest = createChatMessage(1L, "내용1", LocalDateTime.of(2024, 11, 5, 12, 0));
+
+        given(chatMessageRepository.findMessagesBefore(roomId, null, 3)).willReturn(List.of(latest, middle, oldest));
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchMessagesBefore(roomId, null, 2);
+
+        // then
+        assertTrue(result.hasNext());
+        assertEquals(List.of("내용2", "내용3"), result.messages().stream().map(Message::content).toList());
+        assertEquals(new MessageCursor(middle.getSentAt(), 2L), MessageCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 이전 메시지 조회 시 예외")
+    void fetchMessagesBeforeInvalidCursorTest() {
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> chatMessageService.fetchMessagesBefore(roomId, "invalid", 2));
+
+        // then
+        assertEquals(ChatRoomExceptionCode.INVALID_CURSOR.getStatus(), exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("최근 메시지 list에 size개보다 많으면 DB를 조회하지 않음")
+    void fetchRecentMessagesFromRedisTest() {
+        // given
+        Message message3 = new Message("1", "테스터3", 3L, "내용3", "2024-11-05T12:00:01.000123", MessageType.TALK);
+        given(redisUtil.getRawList(RECENT_MESSAGE_PREFIX + roomId, -3, -1)).willReturn(encode(message1, message2, message3));
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchRecentMessages(roomId, 2);
+
+        // then
+        assertEquals(List.of(message2, message3), result.messages());
+        assertTrue(result.hasNext());
+        assertEquals(new MessageCursor(message2.toSentAt(), Long.MAX_VALUE), MessageCursor.decode(result.nextCursor()));
+        verify(chatMessageRepository, never()).findMessagesBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("최대 개수(RECENT_MESSAGE_LIMIT)를 요청해도 최근 메시지 list에서 응답")
+    void fetchRecentMessagesMaxSizeTest() {
+        // given
+        List<Message> stored = new ArrayList<>();
+        for (int i = 0; i <= RECENT_MESSAGE_LIMIT; i++) {
+            stored.add(new Message("1", "테스터1", 1L, "내용" + i,
+                    LocalDateTime.of(2024, 11, 5, 12, 0).plusSeconds(i).toString(), MessageType.TALK));
+        }
+        given(redisUtil.getRawList(RECENT_MESSAGE_PREFIX + roomId, -(RECENT_MESSAGE_LIMIT + 1), -1))
+                .willReturn(encode(stored.toArray(Message[]::new)));
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchRecentMessages(roomId, RECENT_MESSAGE_LIMIT);
+
+        // then
+        assertEquals(stored.subList(1, stored.size()), result.messages());
+        assertTrue(result.hasNext());
+        verify(chatMessageRepository, never()).findMessagesBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("최근 메시지 list에 딱 size개만 있으면 이전 메시지 여부를 DB로 판단")
+    void fetchRecentMessagesExactSizeTest() {
+        // given
+        given(redisUtil.getRawList(RECENT_MESSAGE_PREFIX + roomId, -3, -1)).willReturn(encode(message1, message2));
+        given(redisUtil.getRawList(MESSAGE_PREFIX + roomId, -3, -1)).willReturn(encode(message1, message2));
+        given(chatMessageRepository.findMessagesBefore(roomId, null, 1)).willReturn(List.of());
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchRecentMessages(roomId, 2);
+
+        // then
+        assertEquals(List.of(message1, message2), result.messages());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 부족하면 저장 대기 메시지 앞을 DB 최신 페이지로 채움")
+    void fetchRecentMessagesFallbackTest() {
+        // given
+        ChatMessage latest = createChatMessage(3L, "내용3", LocalDateTime.of(2024, 11, 5, 11, 2));
+        ChatMessage middle = createChatMessage(2L, "내용2", LocalDateTime.of(2024, 11, 5, 11, 1));
+        ChatMessage oldest = createChatMessage(1L, "내용0", LocalDateTime.of(2024, 11, 5, 11, 0));
+
+        given(redisUtil.getRawList(RECENT_MESSAGE_PREFIX + roomId, -4, -1)).willReturn(encode(message1));
+        given(redisUtil.getRawList(MESSAGE_PREFIX + roomId, -4, -1)).willReturn(encode(message1));
+        given(chatMessageRepository.findMessagesBefore(roomId, null, 3)).willReturn(List.of(latest, middle, oldest));
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchRecentMessages(roomId, 3);
+
+        // then
+        assertEquals(List.of("내용2", "내용3", "내용1"), result.messages().stream().map(Message::content).toList());
+        assertTrue(result.hasNext());
+        assertEquals(new MessageCursor(middle.getSentAt(), 2L), MessageCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Redis 메시지로 만든 커서의 이전 페이지에 아직 저장되지 않은 메시지 포함")
+    void fetchMessagesBeforePendingCursorTest() {
+        // given
+        Message pending1 = new Message("1", "테스터1", 1L, "대기1", "2024-11-05T12:00:00.000001", MessageType.TALK);
+        Message pending2 = new Message("1", "테스터2", 2L, "대기2", "2024-11-05T12:00:00.000002", MessageType.TALK);
+        Message recent = new Message("1", "테스터3", 3L, "최근", "2024-11-05T12:00:00.000003", MessageType.TALK);
+        ChatMessage persisted = createChatMessage(1L, "저장", LocalDateTime.of(2024, 11, 5, 11, 0));
+        String cursor = new MessageCursor(recent.toSentAt(), Long.MAX_VALUE).encode();
+
+        given(redisUtil.getRawList(MESSAGE_PREFIX + roomId, 0, 0)).willReturn(encode(pending1));
+        given(redisUtil.getRawList(MESSAGE_PREFIX + roomId, 0, -1)).willReturn(encode(pending1, pending2, recent));
+        given(chatMessageRepository.findMessagesBefore(roomId, MessageCursor.decode(cursor), 2)).willReturn(List.of(persisted));
+
+        // when
+        MessageCursorRes result = chatMessageService.fetchMessagesBefore(roomId, cursor, 3);
+
+        // then
+        assertEquals(List.of("저장", "대기1", "대기2"), result.messages().stream().map(Message::content).toList());
+        assertFalse(result.hasNext());
+    }
+
+    /* TransactionTemplate에 넘긴 작업을 그대로 실행 */
+    @SuppressWarnings("unchecked")
+    private void givenTransaction() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private List<byte[]> encode(Message... messages) {
+        return Arrays.stream(messages)
+                .map(chatMessageCodec::encode)
+                .collect(Collectors.toList());
+    }
 
-        verify(redisUtil).del(key1);
-        verify(redisUtil).del(key2);
+    private ChatMessage createChatMessage(Long id, String content, LocalDateTime sentAt) {
+        ChatMessage chatMessage = ChatMessage.builder()
+                .userId(1L)
+                .sender("테스터1")
+                .content(content)
+                .type(MessageType.TALK)
+                .sentAt(sentAt)
+                .build();
+        ReflectionTestUtils.setField(chatMessage, "id", id);
+        return chatMessage;
     }
 }
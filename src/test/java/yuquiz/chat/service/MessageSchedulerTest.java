@@ -1,23 +1,31 @@
 package yuquiz.chat.service;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
-import yuquiz.domain.chatRoom.dto.Message;
-import yuquiz.domain.chatRoom.dto.MessageType;
+import yuquiz.common.utils.redis.RedisUtil;
 import yuquiz.domain.chatRoom.service.ChatMessageService;
 import yuquiz.domain.chatRoom.service.MessageScheduler;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static yuquiz.common.utils.redis.RedisProperties.MESSAGE_LOCK_PREFIX;
 
 @ExtendWith(MockitoExtension.class)
 public class MessageSchedulerTest {
@@ -25,21 +33,115 @@ public class MessageSchedulerTest {
     @Mock
     private ChatMessageService chatMessageService;
 
-    @InjectMocks
+    @Mock
+    private RedisUtil redisUtil;
+
     private MessageScheduler messageScheduler;
 
+    @BeforeEach
+    void setUp() {
+        messageScheduler = new MessageScheduler(chatMessageService, redisUtil, 2, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageScheduler.shutdown();
+    }
+
     @Test
-    public void testRunDailyMessageProcessJobTest() {
+    @DisplayName("남은 메시지가 batch 크기보다 적어질 때까지 채팅방별로 저장")
+    void runMessagePersistJobTest() {
+        // given
+        when(redisUtil.getRoomIds()).thenReturn(List.of(1L, 2L));
+        when(redisUtil.setIfAbsent(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(chatMessageService.drainMessages(1L, 2)).thenReturn(2, 1);
+        when(chatMessageService.drainMessages(2L, 2)).thenReturn(0);
 
-        Map<Long, List<Message>> testMessages = new HashMap<>();
-        testMessages.put(1L, List.of(new Message("1", "테스터1", 1L, "내용1", "2024-11-05 12:00:00", MessageType.TALK)));
-        testMessages.put(2L, List.of(new Message("1", "테스터2", 2L, "내용2", "2024-11-05 12:00:00", MessageType.TALK)));
+        // when
+        messageScheduler.persistPendingMessages();
 
-        when(chatMessageService.getAllMessagesGroupedByRoomId()).thenReturn(testMessages);
+        // then
+        verify(chatMessageService, times(2)).drainMessages(1L, 2);
+        verify(chatMessageService, times(1)).drainMessages(2L, 2);
+        verify(chatMessageService, times(1)).deactivateRoomIfEmpty(1L);
+        verify(chatMessageService, times(1)).deactivateRoomIfEmpty(2L);
+        verify(redisUtil, never()).scanKeys(anyString());        // 전체 keyspace를 조회하지 않음
+        verify(redisUtil, times(2)).deleteIfEquals(anyString(), anyString());
+        verify(redisUtil, never()).del(anyString());
+    }
+
+    @Test
+    @DisplayName("락 만료시간 안에 끝나지 않으면 남은 메시지는 다음 주기로 미룸")
+    void runMessagePersistJobDeadlineTest() {
+        // given
+        messageScheduler = new MessageScheduler(chatMessageService, redisUtil, 2, 0);
+        when(redisUtil.getRoomIds()).thenReturn(List.of(1L));
+        when(redisUtil.setIfAbsent(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(chatMessageService.drainMessages(1L, 2)).thenReturn(2);
+
+        // when
+        messageScheduler.persistPendingMessages();
+
+        // then
+        verify(chatMessageService, times(1)).drainMessages(1L, 2);
+        verify(redisUtil, times(1)).deleteIfEquals(eq(MESSAGE_LOCK_PREFIX + 1L), anyString());
+    }
+
+    @Test
+    @DisplayName("한 주기의 시간 예산을 다 쓰면 남은 채팅방은 다음 주기로 미룸")
+    void persistPendingMessagesTickBudgetTest() {
+        // given
+        messageScheduler = new MessageScheduler(chatMessageService, redisUtil, 2, 0);
+        when(redisUtil.getRoomIds()).thenReturn(List.of(1L, 2L));
+        when(redisUtil.setIfAbsent(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(chatMessageService.drainMessages(anyLong(), eq(2))).thenReturn(1);
+
+        // when
+        messageScheduler.persistPendingMessages();
+
+        // then
+        verify(chatMessageService, times(1)).drainMessages(anyLong(), eq(2));
+    }
+
+    @Test
+    @DisplayName("저장이 오래 걸려도 스케줄러 스레드는 바로 반환하고 다음 주기는 건너뜀")
+    void runMessagePersistJobDoesNotBlockSchedulerTest() throws Exception {
+        // given
+        CountDownLatch draining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(redisUtil.getRoomIds()).thenReturn(List.of(1L));
+        when(redisUtil.setIfAbsent(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(chatMessageService.drainMessages(1L, 2)).thenAnswer(invocation -> {
+            draining.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+
+        // when
+        long startedAt = System.nanoTime();
+        messageScheduler.runMessagePersistJob();
+        assertTrue(draining.await(1, TimeUnit.SECONDS));
+        messageScheduler.runMessagePersistJob();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 1000);       // 다른 @Scheduled 작업이 기다리지 않음
+        verify(chatMessageService, timeout(1000).times(1)).deactivateRoomIfEmpty(1L);
+        verify(redisUtil, times(1)).getRoomIds();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 가진 채팅방은 건너뜀")
+    void runMessagePersistJobLockedTest() {
+        // given
+        when(redisUtil.getRoomIds()).thenReturn(List.of(1L));
+        when(redisUtil.setIfAbsent(eq(MESSAGE_LOCK_PREFIX + 1L), anyString(), anyLong())).thenReturn(false);
 
-        ReflectionTestUtils.invokeMethod(messageScheduler, "runDailyMessageProcessJob");
+        // when
+        messageScheduler.persistPendingMessages();
 
-        verify(chatMessageService, times(1)).saveMessageInDB(1L, testMessages.get(1L));
-        verify(chatMessageService, times(1)).saveMessageInDB(2L, testMessages.get(2L));
+        // then
+        verify(chatMessageService, never()).drainMessages(1L, 2);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package yuquiz.chat.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.MimeTypeUtils;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+import yuquiz.domain.chatRoom.websocket.ChatBroadcaster;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatBroadcasterTest {
+
+    @Mock
+    private SimpMessageSendingOperations simpMessageSendingOperations;
+
+    private ChatBrokerConfig chatBrokerConfig;
+    private ChatBroadcaster chatBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        chatBrokerConfig = new ChatBrokerConfig();
+        chatBroadcaster = new ChatBroadcaster(simpMessageSendingOperations, chatBrokerConfig);
+    }
+
+    @Test
+    @DisplayName("직렬화된 bytes를 JSON content-type으로 채팅방 구독 경로에 전송")
+    void sendToRoomTest() {
+        // given
+        byte[] payload = "{\"roomId\":\"1\",\"content\":\"내용1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        chatBroadcaster.sendToRoom("1", payload);
+
+        // then
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass((Class) Message.class);
+        verify(simpMessageSendingOperations).send(eq("/sub/1"), captor.capture());
+
+        assertSame(payload, captor.getValue().getPayload());
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, captor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    @DisplayName("relay 모드에서는 외부 broker가 받는 /topic 경로로 전송")
+    void sendToRoomRelayTest() {
+        // given
+        chatBrokerConfig.setMode(ChatBrokerConfig.Mode.RELAY);
+        byte[] payload = "{\"roomId\":\"1\",\"content\":\"내용1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        chatBroadcaster.sendToRoom("1", payload);
+
+        // then
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass((Class) Message.class);
+        verify(simpMessageSendingOperations).send(eq("/topic/chatroom.1"), captor.capture());
+
+        assertSame(payload, captor.getValue().getPayload());
+        assertEquals("/topic", chatBrokerConfig.getBrokerPrefix());
+    }
+}
@@ -0,0 +1,82 @@
+package yuquiz.chat.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import yuquiz.domain.chatRoom.config.ChatBrokerConfig;
+import yuquiz.domain.chatRoom.websocket.ChatRoomSubscriptionRegistry;
+import yuquiz.domain.chatRoom.websocket.RedisSubscriber;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static yuquiz.domain.chatRoom.websocket.ChatRoomSubscriptionRegistry.topicOf;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatRoomSubscriptionRegistryTest {
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private RedisSubscriber redisSubscriber;
+
+    @Mock
+    private ChatBrokerConfig chatBrokerConfig;
+
+    @InjectMocks
+    private ChatRoomSubscriptionRegistry chatRoomSubscriptionRegistry;
+
+    @Test
+    @DisplayName("채팅방의 첫 로컬 구독자가 생길 때만 Redis 채널 구독")
+    void subscribeTest() {
+        // when
+        chatRoomSubscriptionRegistry.subscribe("session1", "sub-0", 1L);
+        chatRoomSubscriptionRegistry.subscribe("session2", "sub-0", 1L);
+
+        // then
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(redisSubscriber, topicOf(1L));
+        assertTrue(chatRoomSubscriptionRegistry.hasLocalSubscribers(1L));
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독자가 나가면 Redis 채널 구독 해제")
+    void unsubscribeTest() {
+        // given
+        chatRoomSubscriptionRegistry.subscribe("session1", "sub-0", 1L);
+        chatRoomSubscriptionRegistry.subscribe("session2", "sub-0", 1L);
+
+        // when
+        chatRoomSubscriptionRegistry.unsubscribe("session1", "sub-0");
+
+        // then
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(Topic.class));
+
+        chatRoomSubscriptionRegistry.disconnect("session2");
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(redisSubscriber, topicOf(1L));
+        assertFalse(chatRoomSubscriptionRegistry.hasLocalSubscribers(1L));
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 세션의 모든 채팅방 구독 해제")
+    void disconnectTest() {
+        // given
+        chatRoomSubscriptionRegistry.subscribe("session1", "sub-0", 1L);
+        chatRoomSubscriptionRegistry.subscribe("session1", "sub-1", 2L);
+
+        // when
+        chatRoomSubscriptionRegistry.disconnect("session1");
+
+        // then
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(redisSubscriber, topicOf(1L));
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(redisSubscriber, topicOf(2L));
+    }
+}
@@ -0,0 +1,55 @@
+package yuquiz.chat.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import yuquiz.domain.chatRoom.websocket.ChatBroadcaster;
+import yuquiz.domain.chatRoom.websocket.RedisSubscriber;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisSubscriberTest {
+
+    @Mock
+    private ChatBroadcaster chatBroadcaster;
+
+    @InjectMocks
+    private RedisSubscriber redisSubscriber;
+
+    @Test
+    @DisplayName("발행된 bytes를 다시 직렬화하지 않고 채팅방으로 전달")
+    void onMessageTest() {
+        // given
+        byte[] payload = "{\"roomId\":\"1\",\"content\":\"내용1\"}".getBytes(StandardCharsets.UTF_8);
+        DefaultMessage message = new DefaultMessage("chatroom:1".getBytes(StandardCharsets.UTF_8), payload);
+
+        // when
+        redisSubscriber.onMessage(message, null);
+
+        // then
+        verify(chatBroadcaster).sendToRoom("1", payload);
+    }
+
+    @Test
+    @DisplayName("채팅 채널이 아니면 전달하지 않음")
+    void onUnexpectedChannelTest() {
+        // given
+        DefaultMessage message = new DefaultMessage("blacklist".getBytes(StandardCharsets.UTF_8), new byte[]{1});
+
+        // when
+        redisSubscriber.onMessage(message, null);
+
+        // then
+        verify(chatBroadcaster, never()).sendToRoom(anyString(), any());
+    }
+}
@@ -0,0 +1,157 @@
+package yuquiz.chat.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import yuquiz.common.utils.jwt.JwtProvider;
+import yuquiz.domain.chatRoom.exception.ChatSendException;
+import yuquiz.domain.chatRoom.service.ChatRoomService;
+import yuquiz.domain.chatRoom.websocket.ChatMemberRegistry;
+import yuquiz.domain.chatRoom.websocket.interceptor.SocketChannelInterceptor;
+import yuquiz.security.token.blacklist.BlackListTokenService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static yuquiz.domain.chatRoom.websocket.ChatMemberRegistry.CHAT_ROOMS_ATTRIBUTE;
+
+@ExtendWith(MockitoExtension.class)
+public class SocketChannelInterceptorTest {
+
+    private static final int SENDERS = 32;
+    private static final int MESSAGES_PER_SENDER = 500;
+    private static final long MAX_ELAPSED_MILLIS = 10_000;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private BlackListTokenService blackListTokenService;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private MessageChannel channel;
+
+    private ChatMemberRegistry chatMemberRegistry;
+    private SocketChannelInterceptor socketChannelInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        chatMemberRegistry = new ChatMemberRegistry();
+        socketChannelInterceptor =
+                new SocketChannelInterceptor(jwtProvider, blackListTokenService, chatRoomService, chatMemberRegistry);
+    }
+
+    @Test
+    @DisplayName("동시에 여러 사용자가 메시지를 보내도 세션 정보로만 권한 확인")
+    void concurrentSendTest() throws Exception {
+        // given
+        List<Map<String, Object>> sessions = new ArrayList<>();
+        for (long userId = 1; userId <= SENDERS; userId++) {
+            sessions.add(connect("session" + userId, userId, 1L));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(SENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SENDERS; i++) {
+            Map<String, Object> attributes = sessions.get(i);
+            String sessionId = "session" + (i + 1);
+
+            results.add(executor.submit(() -> {
+                start.await();
+                int sent = 0;
+                for (int j = 0; j < MESSAGES_PER_SENDER; j++) {
+                    socketChannelInterceptor.preSend(send(sessionId, attributes, 1L), channel);
+                    sent++;
+                }
+                return sent;
+            }));
+        }
+        start.countDown();
+
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        // then
+        assertEquals(SENDERS * MESSAGES_PER_SENDER, total);
+        verifyNoInteractions(chatRoomService, jwtProvider, blackListTokenService);     // SEND마다 Redis/DB 조회 없음
+        assertTrue(elapsedMillis < MAX_ELAPSED_MILLIS);     // 락 경합이나 외부 조회가 있으면 크게 늘어남
+    }
+
+    @Test
+    @DisplayName("강퇴 알림을 받으면 해당 사용자의 세션에서 바로 전송 불가")
+    void sendAfterKickTest() {
+        // given
+        Map<String, Object> attributes = connect("session1", 1L, 1L);
+        assertDoesNotThrow(() -> socketChannelInterceptor.preSend(send("session1", attributes, 1L), channel));
+
+        // when
+        chatMemberRegistry.onMessage(
+                new DefaultMessage(ChatMemberRegistry.KICK_TOPIC.getBytes(StandardCharsets.UTF_8),
+                        ChatMemberRegistry.toKickMessage(1L, 1L)), null);
+
+        // then
+        assertThrows(ChatSendException.class,
+                () -> socketChannelInterceptor.preSend(send("session1", attributes, 1L), channel));
+    }
+
+    @Test
+    @DisplayName("권한이 확인되지 않은 채팅방으로는 전송 불가")
+    void sendToOtherRoomTest() {
+        // given
+        Map<String, Object> attributes = connect("session1", 1L, 1L);
+
+        // when, then
+        assertThrows(ChatSendException.class,
+                () -> socketChannelInterceptor.preSend(send("session1", attributes, 2L), channel));
+    }
+
+    /* CONNECT 성공 후 상태와 같도록 세션 등록 */
+    private Map<String, Object> connect(String sessionId, Long userId, Long roomId) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("userId", userId);
+        attributes.put(CHAT_ROOMS_ATTRIBUTE, chatMemberRegistry.register(sessionId, userId, roomId));
+        return attributes;
+    }
+
+    private Message<byte[]> send(String sessionId, Map<String, Object> attributes, Long roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(attributes);
+        accessor.setNativeHeader("roomId", String.valueOf(roomId));
+        accessor.setDestination("/pub/message/" + roomId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
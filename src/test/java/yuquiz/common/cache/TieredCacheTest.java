@@ -0,0 +1,118 @@
+package yuquiz.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TieredCacheTest {
+
+    @Mock
+    private CacheEvictionPublisher evictionPublisher;
+
+    private ConcurrentMapCache remoteCache;
+    private MeterRegistry meterRegistry;
+    private TieredCache tieredCache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("users", false);
+        meterRegistry = new SimpleMeterRegistry();
+        tieredCache = new TieredCache("users", Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache, evictionPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 채워 다음 조회는 L1에서 응답")
+    void getPromotesToLocalTest() {
+        // given
+        remoteCache.put("1", "user1");
+
+        // when
+        tieredCache.get("1");
+        remoteCache.evict("1");
+        Object value = tieredCache.get("1").get();
+
+        // then
+        assertEquals("user1", value);
+        assertEquals(1, count("l1", "hit"));
+        assertEquals(1, count("l2", "hit"));
+    }
+
+    @Test
+    @DisplayName("무효화 시 L1, L2를 모두 비우고 다른 인스턴스에 전파")
+    void evictTest() {
+        // given
+        tieredCache.put("1", "user1");
+
+        // when
+        tieredCache.evict("1");
+
+        // then
+        assertNull(tieredCache.get("1"));
+        assertEquals(1, count("l2", "miss"));
+        verify(evictionPublisher).publishEvict("users", "1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화는 커밋된 뒤에 적용하고 전파")
+    void evictAfterCommitTest() {
+        // given
+        tieredCache.put("1", "user1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            tieredCache.evict("1");
+
+            // then
+            assertEquals("user1", tieredCache.get("1").get());
+            verify(evictionPublisher, never()).publishEvict(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertNull(tieredCache.get("1"));
+            verify(evictionPublisher).publishEvict("users", "1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("전파받은 무효화는 L1만 비움")
+    void evictLocalTest() {
+        // given
+        tieredCache.put("1", "user1");
+
+        // when
+        tieredCache.evictLocal("1");
+        tieredCache.get("1");
+
+        // then
+        assertEquals(1, count("l1", "miss"));
+        assertEquals(1, count("l2", "hit"));
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tiered.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,97 @@
+package yuquiz.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yuquiz.common.utils.counter.PageCountCache;
+import yuquiz.domain.post.entity.Post;
+import yuquiz.domain.quiz.entity.Quiz;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class PageCountCacheTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 필터/검색어 조합은 TTL 동안 count 쿼리를 다시 실행하지 않음")
+    void getCountCachedTest() {
+        // given
+        PageCountCache pageCountCache = new PageCountCache(jdbcTemplate, 60_000, false);
+        AtomicInteger queryCount = new AtomicInteger();
+
+        // when
+        pageCountCache.getCount(Quiz.class, "subject=1", "자료구조", () -> { queryCount.incrementAndGet(); return 5L; });
+        long count = pageCountCache.getCount(Quiz.class, "subject=1", "자료구조", () -> { queryCount.incrementAndGet(); return 5L; });
+
+        // then
+        assertEquals(5L, count);
+        assertEquals(1, queryCount.get());
+    }
+
+    @Test
+    @DisplayName("생성/삭제로 무효화하면 해당 엔티티의 개수만 다시 조회")
+    void evictTest() {
+        // given
+        PageCountCache pageCountCache = new PageCountCache(jdbcTemplate, 60_000, false);
+        pageCountCache.getCount(Quiz.class, "subject=1", null, () -> 5L);
+        pageCountCache.getCount(Post.class, "category=1", null, () -> 3L);
+
+        // when
+        pageCountCache.evict(Quiz.class);
+
+        // then
+        assertEquals(6L, pageCountCache.getCount(Quiz.class, "subject=1", null, () -> 6L));
+        assertEquals(3L, pageCountCache.getCount(Post.class, "category=1", null, () -> 4L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화는 커밋된 뒤에 적용")
+    void evictAfterCommitTest() {
+        // given
+        PageCountCache pageCountCache = new PageCountCache(jdbcTemplate, 60_000, false);
+        pageCountCache.getCount(Quiz.class, "subject=1", null, () -> 5L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            pageCountCache.evict(Quiz.class);
+
+            // then
+            assertEquals(5L, pageCountCache.getCount(Quiz.class, "subject=1", null, () -> 6L));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(6L, pageCountCache.getCount(Quiz.class, "subject=1", null, () -> 6L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("approximate 모드에서는 필터 없는 목록 개수를 테이블 통계로 대신")
+    void getUnfilteredCountApproximateTest() {
+        // given
+        PageCountCache pageCountCache = new PageCountCache(jdbcTemplate, 60_000, true);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("Quiz")))
+                .willReturn(1000L);
+
+        // when
+        long count = pageCountCache.getUnfilteredCount(Quiz.class, () -> 999L);
+
+        // then
+        assertEquals(1000L, count);
+    }
+}
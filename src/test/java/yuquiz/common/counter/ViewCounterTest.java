@@ -0,0 +1,70 @@
+package yuquiz.common.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yuquiz.common.utils.counter.ViewCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ViewCounterTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 증가분은 지연 시간 메트릭에 남음")
+    void flushLagAfterDrainTest() {
+        // given
+        List<ViewCounter> holder = new ArrayList<>();
+        AtomicInteger updates = new AtomicInteger();
+        ViewCounter viewCounter = new ViewCounter("test", (ids, delta) -> {
+            if (updates.getAndIncrement() == 0) {
+                holder.get(0).increase(2L);     // 첫 반영 도중 새 조회 발생
+            }
+        }, meterRegistry);
+        holder.add(viewCounter);
+        viewCounter.increase(1L);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertEquals(1, viewCounter.getPending(2L));
+        assertEquals(1, meterRegistry.get("test.view_count.pending").gauge().value());
+        assertTrue(meterRegistry.get("test.view_count.flush.lag").gauge().value() >= 0);
+
+        viewCounter.flush();
+        assertEquals(0, meterRegistry.get("test.view_count.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("test.view_count.flush.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분과 대기 시작 시각을 되돌림")
+    void flushFailedTest() throws InterruptedException {
+        // given
+        ViewCounter viewCounter = new ViewCounter("test", (ids, delta) -> {
+            throw new IllegalStateException("db down");
+        }, meterRegistry);
+        viewCounter.increase(1L);
+        Thread.sleep(20);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertEquals(1, viewCounter.getPending(1L));
+        assertTrue(meterRegistry.get("test.view_count.flush.lag").gauge().value() >= 20);
+    }
+}
@@ -0,0 +1,77 @@
+package yuquiz.common.jwt;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yuquiz.common.utils.jwt.JwtProvider;
+import yuquiz.common.utils.jwt.VerifiedToken;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtProviderTest {
+
+    private static final String SECRET = "exampleSecretKeyForYUQuizSystemAccessSecretKeyTestForPadding";
+
+    @Test
+    @DisplayName("한 번의 검증으로 토큰의 claim을 모두 반환")
+    void verifyTest() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 60_000, "yu-quiz", 0);
+        String token = jwtProvider.generateAccessToken("USER", 1L, "test");
+
+        // when
+        VerifiedToken verifiedToken = jwtProvider.verify(token);
+
+        // then
+        assertEquals(1L, verifiedToken.userId());
+        assertEquals("test", verifiedToken.username());
+        assertEquals("USER", verifiedToken.role());
+        assertFalse(verifiedToken.isExpired());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 예외 대신 만료 상태로 반환")
+    void verifyExpiredTest() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(SECRET, -1_000, 60_000, "yu-quiz", 0);
+        String token = jwtProvider.generateAccessToken("USER", 1L, "test");
+
+        // when
+        VerifiedToken verifiedToken = jwtProvider.verify(token);
+
+        // then
+        assertTrue(verifiedToken.isExpired());
+        assertEquals(1L, verifiedToken.userId());
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 거절")
+    void verifyInvalidSignatureTest() {
+        // given
+        JwtProvider otherProvider = new JwtProvider(SECRET + "other", 60_000, 60_000, "yu-quiz", 0);
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 60_000, "yu-quiz", 0);
+        String token = otherProvider.generateAccessToken("USER", 1L, "test");
+
+        // when & then
+        assertThrows(JwtException.class, () -> jwtProvider.verify(token));
+    }
+
+    @Test
+    @DisplayName("캐시를 켜면 같은 토큰은 서명 검증 없이 이전 결과를 재사용")
+    void verifyCachedTest() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 60_000, "yu-quiz", 100);
+        String token = jwtProvider.generateAccessToken("USER", 1L, "test");
+
+        // when
+        VerifiedToken first = jwtProvider.verify(token);
+        VerifiedToken second = jwtProvider.verify(token);
+
+        // then
+        assertSame(first, second);
+    }
+}
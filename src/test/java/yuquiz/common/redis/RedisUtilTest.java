@@ -0,0 +1,79 @@
+package yuquiz.common.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import yuquiz.common.utils.redis.RedisUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static yuquiz.common.utils.redis.RedisProperties.ACTIVE_ROOM_KEY;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisUtilTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @InjectMocks
+    private RedisUtil redisUtil;
+
+    @Test
+    @DisplayName("SCAN cursor로 패턴에 맞는 key를 count개씩 나눠 조회")
+    @SuppressWarnings("unchecked")
+    void scanTest() {
+        // given
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("chat::message::1", "chat::message::2");
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        List<String> keys = new ArrayList<>();
+        redisUtil.scan("chat::message::*", 100, keys::add);
+
+        // then
+        ArgumentCaptor<ScanOptions> captor = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(redisTemplate).scan(captor.capture());
+        assertEquals("chat::message::*", captor.getValue().getPattern());
+        assertEquals(100L, captor.getValue().getCount());
+        assertEquals(List.of("chat::message::1", "chat::message::2"), keys);
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("채팅방 id는 KEYS 없이 관리 중인 Set에서 조회")
+    @SuppressWarnings("unchecked")
+    void getRoomIdsTest() {
+        // given
+        SetOperations<String, Object> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(ACTIVE_ROOM_KEY)).thenReturn(Set.<Object>of(1, 2L));
+
+        // when
+        List<Long> roomIds = redisUtil.getRoomIds();
+
+        // then
+        assertEquals(Set.of(1L, 2L), Set.copyOf(roomIds));
+        verify(redisTemplate, never()).keys(anyString());
+    }
+}
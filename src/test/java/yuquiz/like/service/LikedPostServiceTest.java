@@ -0,0 +1,109 @@
+package yuquiz.like.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import yuquiz.common.exception.CustomException;
+import yuquiz.domain.like.entity.LikedPost;
+import yuquiz.domain.like.repository.LikedPostRepository;
+import yuquiz.domain.like.service.LikedPostService;
+import yuquiz.domain.post.entity.Post;
+import yuquiz.domain.post.exception.PostExceptionCode;
+import yuquiz.domain.post.repository.PostRepository;
+import yuquiz.domain.user.entity.User;
+import yuquiz.domain.user.repository.UserRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LikedPostServiceTest {
+
+    @Mock
+    private LikedPostRepository likedPostRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private LikedPostService likedPostService;
+
+    @Test
+    @DisplayName("좋아요 시 좋아요 수를 먼저 원자적으로 증가시킨 뒤 좋아요 저장")
+    void likePostTest() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mock(User.class)));
+        given(postRepository.findById(1L)).willReturn(Optional.of(mock(Post.class)));
+
+        // when
+        likedPostService.likePost(1L, 1L);
+
+        // then
+        InOrder inOrder = inOrder(postRepository, likedPostRepository);
+        inOrder.verify(postRepository).increaseLikeCount(1L);
+        inOrder.verify(likedPostRepository).saveAndFlush(any(LikedPost.class));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 좋아요는 유니크 제약 위반 예외로 거절 (증가분은 트랜잭션 롤백으로 취소)")
+    void likePostDuplicatedTest() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mock(User.class)));
+        given(postRepository.findById(1L)).willReturn(Optional.of(mock(Post.class)));
+        given(likedPostRepository.saveAndFlush(any(LikedPost.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> likedPostService.likePost(1L, 1L));
+
+        // then
+        assertEquals(PostExceptionCode.ALREADY_LIKED.getStatus(), exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 게시글이면 좋아요 수를 올리지 않음")
+    void likePostAlreadyLikedTest() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mock(User.class)));
+        given(postRepository.findById(1L)).willReturn(Optional.of(mock(Post.class)));
+        given(likedPostRepository.existsByUserAndPost(any(User.class), any(Post.class))).willReturn(true);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> likedPostService.likePost(1L, 1L));
+
+        // then
+        assertEquals(PostExceptionCode.ALREADY_LIKED.getStatus(), exception.getStatus());
+        verify(postRepository, never()).increaseLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 좋아요가 없으면 좋아요 수를 감소시키지 않음")
+    void deleteLikePostNotLikedTest() {
+        // given
+        given(likedPostRepository.deleteByUser_IdAndPost_Id(1L, 1L)).willReturn(0);
+
+        // when
+        likedPostService.deleteLikePost(1L, 1L);
+
+        // then
+        verify(postRepository, never()).decreaseLikeCount(1L);
+    }
+}
@@ -0,0 +1,136 @@
+package yuquiz.like.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import yuquiz.common.exception.CustomException;
+import yuquiz.domain.like.dto.quiz.LikedQuizSortType;
+import yuquiz.domain.like.entity.LikedQuiz;
+import yuquiz.domain.like.repository.LikedQuizRepository;
+import yuquiz.domain.like.service.LikedQuizService;
+import yuquiz.domain.quiz.dto.quiz.QuizSummaryRes;
+import yuquiz.domain.quiz.entity.Quiz;
+import yuquiz.domain.quiz.exception.QuizExceptionCode;
+import yuquiz.domain.quiz.repository.QuizRepository;
+import yuquiz.domain.quiz.repository.TriedQuizRepository;
+import yuquiz.domain.user.entity.User;
+import yuquiz.domain.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LikedQuizServiceTest {
+
+    @Mock
+    private LikedQuizRepository likedQuizRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private TriedQuizRepository triedQuizRepository;
+
+    @InjectMocks
+    private LikedQuizService likedQuizService;
+
+    @Test
+    @DisplayName("좋아요 시 좋아요 수를 먼저 원자적으로 증가시킨 뒤 좋아요 저장")
+    void likeQuizTest() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mock(User.class)));
+        given(quizRepository.findById(1L)).willReturn(Optional.of(mock(Quiz.class)));
+
+        // when
+        likedQuizService.likeQuiz(1L, 1L);
+
+        // then
+        InOrder inOrder = inOrder(quizRepository, likedQuizRepository);
+        inOrder.verify(quizRepository).increaseLikeCount(1L);
+        inOrder.verify(likedQuizRepository).saveAndFlush(any(LikedQuiz.class));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 좋아요는 유니크 제약 위반 예외로 거절 (증가분은 트랜잭션 롤백으로 취소)")
+    void likeQuizDuplicatedTest() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(mock(User.class)));
+        given(quizRepository.findById(1L)).willReturn(Optional.of(mock(Quiz.class)));
+        given(likedQuizRepository.saveAndFlush(any(LikedQuiz.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> likedQuizService.likeQuiz(1L, 1L));
+
+        // then
+        assertEquals(QuizExceptionCode.ALREADY_LIKED.getStatus(), exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("삭제된 좋아요가 없으면 좋아요 수를 감소시키지 않음")
+    void deleteLikeQuizNotLikedTest() {
+        // given
+        given(likedQuizRepository.deleteByUserIdAndQuizId(1L, 1L)).willReturn(0);
+
+        // when
+        likedQuizService.deleteLikeQuiz(1L, 1L);
+
+        // then
+        verify(quizRepository, never()).decreaseLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요한 퀴즈 목록의 풀이 여부를 한 번의 쿼리로 조회")
+    void getLikedQuizzesTest() {
+        // given
+        User user = mock(User.class);
+        List<LikedQuiz> likedQuizzes = List.of(mockLikedQuiz(1L), mockLikedQuiz(2L));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(likedQuizRepository.findAllByUser(any(User.class), any()))
+                .willReturn(new PageImpl<>(likedQuizzes));
+        given(triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(1L, List.of(1L, 2L)))
+                .willReturn(Map.of(2L, true));
+
+        // when
+        Page<QuizSummaryRes> quizzes = likedQuizService.getLikedQuizzes(1L, 0, LikedQuizSortType.LIKE_DESC);
+
+        // then
+        assertNull(quizzes.getContent().get(0).isSolved());
+        assertEquals(true, quizzes.getContent().get(1).isSolved());
+        verify(triedQuizRepository, times(1)).getIsSolvedByUser_IdAndQuiz_IdIn(anyLong(), any());
+    }
+
+    private LikedQuiz mockLikedQuiz(Long quizId) {
+        Quiz quiz = mock(Quiz.class, RETURNS_DEEP_STUBS);
+        given(quiz.getId()).willReturn(quizId);
+
+        LikedQuiz likedQuiz = mock(LikedQuiz.class);
+        given(likedQuiz.getQuiz()).willReturn(quiz);
+        return likedQuiz;
+    }
+}
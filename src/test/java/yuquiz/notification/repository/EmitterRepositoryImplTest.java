@@ -0,0 +1,98 @@
+package yuquiz.notification.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import yuquiz.domain.notification.repository.EmitterRepositoryImpl;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EmitterRepositoryImplTest {
+
+    private MeterRegistry meterRegistry;
+    private EmitterRepositoryImpl emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emitterRepository = new EmitterRepositoryImpl(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("사용자 id로 해당 사용자의 연결만 조회")
+    void findAllEmitterByUserIdTest() {
+        // given
+        SseEmitter emitter1 = emitterRepository.save(1L, new SseEmitter());
+        SseEmitter emitter2 = emitterRepository.save(1L, new SseEmitter());
+        emitterRepository.save(12L, new SseEmitter());
+        emitterRepository.save(123L, new SseEmitter());
+
+        // when
+        Set<SseEmitter> emitters = emitterRepository.findAllEmitterByUserId(1L);
+
+        // then
+        assertEquals(Set.of(emitter1, emitter2), emitters);
+        assertEquals(4, meterRegistry.get("notification.emitters.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("같은 연결을 여러 번 제거해도 연결 수는 한 번만 감소")
+    void deleteTest() {
+        // given
+        SseEmitter emitter1 = emitterRepository.save(1L, new SseEmitter());
+        SseEmitter emitter2 = emitterRepository.save(1L, new SseEmitter());
+
+        // when
+        emitterRepository.delete(1L, emitter1);
+        emitterRepository.delete(1L, emitter1);     // 완료 후 시간 초과 콜백이 다시 호출되는 경우
+
+        // then
+        assertEquals(Set.of(emitter2), emitterRepository.findAllEmitterByUserId(1L));
+        assertEquals(1, emitterRepository.countEmitters());
+
+        emitterRepository.delete(1L, emitter2);
+        assertTrue(emitterRepository.findAllEmitterByUserId(1L).isEmpty());
+        assertEquals(0, meterRegistry.get("notification.emitters.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("사용자의 모든 연결 제거")
+    void deleteAllEmitterByUserIdTest() {
+        // given
+        emitterRepository.save(1L, new SseEmitter());
+        emitterRepository.save(1L, new SseEmitter());
+        emitterRepository.save(2L, new SseEmitter());
+
+        // when
+        emitterRepository.deleteAllEmitterByUserId(1L);
+
+        // then
+        assertTrue(emitterRepository.findAllEmitterByUserId(1L).isEmpty());
+        assertEquals(1, emitterRepository.countEmitters());
+    }
+
+    @Test
+    @DisplayName("전송 실패와 시간 초과로 제거된 연결 수를 따로 집계")
+    void evictAndExpireTest() {
+        // given
+        SseEmitter dead = emitterRepository.save(1L, new SseEmitter());
+        SseEmitter expired = emitterRepository.save(2L, new SseEmitter());
+        emitterRepository.save(3L, new SseEmitter());
+
+        // when
+        emitterRepository.evict(1L, dead);
+        emitterRepository.evict(1L, dead);
+        emitterRepository.expire(2L, expired);
+
+        // then
+        assertEquals(1, emitterRepository.countEmitters());
+        assertEquals(1, meterRegistry.get("notification.emitters.evicted").counter().count());
+        assertEquals(1, meterRegistry.get("notification.emitters.timed_out").counter().count());
+    }
+}
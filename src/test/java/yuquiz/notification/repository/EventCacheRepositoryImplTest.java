@@ -0,0 +1,155 @@
+package yuquiz.notification.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import yuquiz.common.utils.redis.RedisUtil;
+import yuquiz.domain.notification.converter.CachedEventCodec;
+import yuquiz.domain.notification.dto.CachedEvent;
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.repository.EventCacheRepositoryImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_EVENT_PREFIX;
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_SEQUENCE_KEY;
+import static yuquiz.common.utils.redis.RedisProperties.NOTIFICATION_TOPIC;
+
+@ExtendWith(MockitoExtension.class)
+public class EventCacheRepositoryImplTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    private CachedEventCodec cachedEventCodec;
+    private EventCacheRepositoryImpl eventCacheRepository;
+
+    private NotificationRes notification;
+
+    @BeforeEach
+    void setUp() {
+        cachedEventCodec = new CachedEventCodec(new ObjectMapper().findAndRegisterModules());
+        eventCacheRepository = new EventCacheRepositoryImpl(redisUtil, cachedEventCodec, 100, 600);
+
+        notification = new NotificationRes(1L, "알림", "알림", false, "/studies/1", LocalDateTime.of(2024, 11, 5, 12, 0));
+    }
+
+    @Test
+    @DisplayName("알림 저장, 길이 제한, 만료시간 갱신, 발행을 pipeline 한 번으로 처리")
+    @SuppressWarnings("unchecked")
+    void saveAndPublishTest() {
+        // given
+        byte[] key = (NOTIFICATION_EVENT_PREFIX + 1L).getBytes(StandardCharsets.UTF_8);
+        byte[] channel = NOTIFICATION_TOPIC.getBytes(StandardCharsets.UTF_8);
+
+        given(redisUtil.increment(NOTIFICATION_SEQUENCE_KEY)).willReturn(7L);
+        given(redisUtil.rawKey(anyString())).willAnswer(invocation ->
+                invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8));
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        given(connection.listCommands()).willReturn(listCommands);
+        given(connection.keyCommands()).willReturn(keyCommands);
+
+        // when
+        CachedEvent event = eventCacheRepository.saveAndPublish(1L, notification);
+
+        // then
+        ArgumentCaptor<Consumer<RedisConnection>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisUtil, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(connection);
+
+        byte[] payload = cachedEventCodec.encode(event);
+        assertEquals("1_7", event.id());
+        verify(listCommands).rPush(key, payload);
+        verify(listCommands).lTrim(key, -100, -1);
+        verify(keyCommands).expire(key, 600);
+        verify(connection).publish(channel, payload);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 sequence 이후의 알림만 오래된 순으로 반환")
+    void findAllAfterTest() {
+        // given
+        CachedEvent first = CachedEvent.of(1L, 1L, notification);
+        CachedEvent second = CachedEvent.of(1L, 3L, notification);
+        CachedEvent third = CachedEvent.of(1L, 4L, notification);
+        given(redisUtil.getRawList(NOTIFICATION_EVENT_PREFIX + 1L, 0, -1))
+                .willReturn(List.of(cachedEventCodec.encode(first), cachedEventCodec.encode(second), cachedEventCodec.encode(third)));
+
+        // when
+        List<CachedEvent> events = eventCacheRepository.findAllAfter(1L, first.sequence());
+
+        // then
+        assertEquals(List.of(second, third), events);
+    }
+
+    @Test
+    @DisplayName("sequence 순서와 저장 순서가 달라도 마지막 sequence 이후의 알림을 모두 sequence 순으로 반환")
+    void findAllAfterOutOfOrderTest() {
+        // given
+        CachedEvent first = CachedEvent.of(1L, 5L, notification);
+        CachedEvent missed = CachedEvent.of(1L, 8L, notification);
+        CachedEvent received = CachedEvent.of(1L, 7L, notification);     // 8보다 먼저 발급됐지만 늦게 저장됨
+        CachedEvent last = CachedEvent.of(1L, 9L, notification);
+        given(redisUtil.getRawList(NOTIFICATION_EVENT_PREFIX + 1L, 0, -1))
+                .willReturn(List.of(cachedEventCodec.encode(first), cachedEventCodec.encode(missed),
+                        cachedEventCodec.encode(received), cachedEventCodec.encode(last)));
+
+        // when
+        List<CachedEvent> events = eventCacheRepository.findAllAfter(1L, received.sequence());
+
+        // then
+        assertEquals(List.of(missed, last), events);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 알림은 다시 보내지 않음")
+    void findAllAfterExpiredTest() {
+        // given
+        CachedEvent expired = new CachedEvent(1L, "1_1", 1L, System.currentTimeMillis() - 601 * 1000L, notification);
+        given(redisUtil.getRawList(NOTIFICATION_EVENT_PREFIX + 1L, 0, -1))
+                .willReturn(List.of(cachedEventCodec.encode(expired)));
+
+        // when
+        List<CachedEvent> events = eventCacheRepository.findAllAfter(1L, 0);
+
+        // then
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("알림 직렬화 후 다시 읽기")
+    void codecTest() {
+        // given
+        CachedEvent event = CachedEvent.of(1L, 5L, notification);
+
+        // when
+        CachedEvent decoded = cachedEventCodec.decode(cachedEventCodec.encode(event));
+
+        // then
+        assertEquals(event, decoded);
+        assertArrayEquals(cachedEventCodec.encode(event), cachedEventCodec.encode(decoded));
+        assertEquals(5L, CachedEvent.parseSequence(decoded.id()));
+    }
+}
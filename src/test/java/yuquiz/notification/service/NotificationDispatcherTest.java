@@ -0,0 +1,96 @@
+package yuquiz.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import yuquiz.domain.notification.converter.CachedEventCodec;
+import yuquiz.domain.notification.dto.CachedEvent;
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.repository.EmitterRepository;
+import yuquiz.domain.notification.service.NotificationDispatcher;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatcherTest {
+
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    private CachedEventCodec cachedEventCodec;
+    private NotificationDispatcher notificationDispatcher;
+
+    private CachedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        cachedEventCodec = new CachedEventCodec(new ObjectMapper().findAndRegisterModules());
+        notificationDispatcher = new NotificationDispatcher(emitterRepository, cachedEventCodec);
+
+        NotificationRes notification = new NotificationRes(1L, "알림", "알림", false, "/studies/1", LocalDateTime.of(2024, 11, 5, 12, 0));
+        event = CachedEvent.of(1L, 1L, notification);
+    }
+
+    @Test
+    @DisplayName("발행된 알림을 현재 서버에 연결된 사용자의 연결로 전송")
+    void onMessageTest() throws IOException {
+        // given
+        SseEmitter emitter1 = mock(SseEmitter.class);
+        SseEmitter emitter2 = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Set.of(emitter1, emitter2));
+
+        // when
+        notificationDispatcher.onMessage(new DefaultMessage("notification".getBytes(StandardCharsets.UTF_8),
+                cachedEventCodec.encode(event)), null);
+
+        // then
+        verify(emitter1, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter2, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("현재 서버에 연결이 없는 사용자의 알림은 버림")
+    void onMessageWithoutLocalEmitterTest() {
+        // given
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Set.of());
+
+        // when
+        notificationDispatcher.onMessage(new DefaultMessage("notification".getBytes(StandardCharsets.UTF_8),
+                cachedEventCodec.encode(event)), null);
+
+        // then
+        verify(emitterRepository, never()).evict(any(), any());
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 제거")
+    void dispatchFailedTest() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Set.of(emitter));
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        notificationDispatcher.dispatch(event);
+
+        // then
+        verify(emitterRepository, times(1)).evict(1L, emitter);
+    }
+}
@@ -0,0 +1,126 @@
+package yuquiz.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yuquiz.domain.notification.dto.NotificationRes;
+import yuquiz.domain.notification.dto.NotificationType;
+import yuquiz.domain.notification.event.NotificationEvent;
+import yuquiz.domain.notification.service.NotificationEventListener;
+import yuquiz.domain.notification.service.NotificationService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationEventListenerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private MeterRegistry meterRegistry;
+    private NotificationEventListener notificationEventListener;
+
+    private NotificationEvent event1;
+    private NotificationEvent event2;
+    private NotificationRes notification1;
+    private NotificationRes notification2;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationEventListener = new NotificationEventListener(notificationService, meterRegistry, 1, 100, 3, 1);
+
+        event1 = new NotificationEvent(1L, NotificationType.STUDY_JOIN_REQUEST, "\"스터디\"스터디에 새로운 참여 신청이 있습니다.", "/study/1");
+        event2 = new NotificationEvent(2L, NotificationType.REPORT, "\"퀴즈\" 퀴즈에 대한 신고가 있습니다.", "/quiz/play/1");
+        notification1 = new NotificationRes(10L, event1.content(), event1.content(), false, event1.url(), LocalDateTime.now());
+        notification2 = new NotificationRes(11L, event2.content(), event2.content(), false, event2.url(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("모은 알림을 한 번에 저장한 뒤 사용자별로 전송")
+    void dispatchTest() throws InterruptedException {
+        // given
+        given(notificationService.saveAll(List.of(event1, event2))).willReturn(List.of(notification1, notification2));
+
+        // when
+        notificationEventListener.dispatch(List.of(event1, event2));
+
+        // then
+        verify(notificationService, times(1)).saveAll(List.of(event1, event2));
+        verify(notificationService, times(1)).publish(1L, notification1);
+        verify(notificationService, times(1)).publish(2L, notification2);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 재시도하고, 성공하면 한 번만 전송")
+    void dispatchRetryTest() throws InterruptedException {
+        // given
+        given(notificationService.saveAll(List.of(event1)))
+                .willThrow(new RuntimeException("db down"))
+                .willReturn(List.of(notification1));
+
+        // when
+        notificationEventListener.dispatch(List.of(event1));
+
+        // then
+        verify(notificationService, times(2)).saveAll(List.of(event1));
+        verify(notificationService, times(1)).publish(1L, notification1);
+    }
+
+    @Test
+    @DisplayName("재시도에 모두 실패하면 전송하지 않고 버림")
+    void dispatchFailedTest() throws InterruptedException {
+        // given
+        given(notificationService.saveAll(List.of(event1))).willThrow(new RuntimeException("db down"));
+
+        // when
+        notificationEventListener.dispatch(List.of(event1));
+
+        // then
+        verify(notificationService, times(3)).saveAll(List.of(event1));
+        verify(notificationService, never()).publish(any(), any());
+        assertEquals(1, meterRegistry.get("notification.dispatch.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("전송 실패는 저장을 다시 하지 않고 전송만 재시도")
+    void publishRetryTest() throws InterruptedException {
+        // given
+        given(notificationService.saveAll(List.of(event1))).willReturn(List.of(notification1));
+        doThrow(new RuntimeException("redis down")).doNothing()
+                .when(notificationService).publish(1L, notification1);
+
+        // when
+        notificationEventListener.dispatch(List.of(event1));
+
+        // then
+        verify(notificationService, times(1)).saveAll(List.of(event1));
+        verify(notificationService, times(2)).publish(1L, notification1);
+    }
+
+    @Test
+    @DisplayName("queue가 가득 차면 요청을 막지 않고 버림")
+    void enqueueFullTest() {
+        // when
+        notificationEventListener.enqueue(event1);
+        notificationEventListener.enqueue(event2);
+
+        // then
+        assertEquals(1, meterRegistry.get("notification.dispatch.pending").gauge().value());
+        assertEquals(1, meterRegistry.get("notification.dispatch.dropped").counter().count());
+    }
+}
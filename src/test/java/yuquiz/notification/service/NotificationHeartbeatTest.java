@@ -0,0 +1,216 @@
+package yuquiz.notification.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import yuquiz.domain.notification.repository.EmitterRepository;
+import yuquiz.domain.notification.service.NotificationHeartbeat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationHeartbeatTest {
+
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    private NotificationHeartbeat notificationHeartbeat;
+
+    @BeforeEach
+    void setUp() {
+        notificationHeartbeat = new NotificationHeartbeat(emitterRepository, 2, 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationHeartbeat.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 연결에 batch로 나눠 heartbeat 전송")
+    void sendHeartbeatTest() throws IOException {
+        // given
+        List<SseEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            emitters.add(mock(SseEmitter.class));
+        }
+        givenEmitters(emitters);
+
+        // when
+        notificationHeartbeat.sendHeartbeat();
+
+        // then
+        for (SseEmitter emitter : emitters) {
+            verify(emitter, timeout(1000).times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        }
+        verify(emitterRepository, never()).evict(any(), any());
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송에 실패한 연결만 제거")
+    void evictDeadConnectionTest() throws IOException {
+        // given
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter dead = mock(SseEmitter.class);
+        doThrow(new IOException("broken pipe")).when(dead).send(any(SseEmitter.SseEventBuilder.class));
+        givenEmitters(List.of(alive, dead));
+
+        // when
+        notificationHeartbeat.sendHeartbeat();
+
+        // then
+        verify(emitterRepository, timeout(1000).times(1)).evict(2L, dead);
+        verify(emitterRepository, never()).evict(1L, alive);
+    }
+
+    @Test
+    @DisplayName("이전 heartbeat가 끝나지 않았으면 이번 주기는 건너뜀")
+    void skipWhileSweepingTest() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slow = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).send(any(SseEmitter.SseEventBuilder.class));
+        givenEmitters(List.of(slow));
+
+        // when
+        notificationHeartbeat.sendHeartbeat();
+        notificationHeartbeat.sendHeartbeat();
+        release.countDown();
+
+        // then
+        verify(slow, timeout(1000).times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitterRepository, times(1)).forEachEmitter(any());
+    }
+
+    @Test
+    @DisplayName("소켓 write에 막힌 연결은 emitter lock을 기다리지 않고 각각 제거")
+    void evictStuckWriteTest() throws Exception {
+        // given
+        notificationHeartbeat.shutdown();
+        notificationHeartbeat = new NotificationHeartbeat(emitterRepository, 1, 2, 200);
+
+        CountDownLatch socketTimeout = new CountDownLatch(1);
+        SseEmitter first = connect(socketTimeout);
+        SseEmitter second = connect(socketTimeout);
+        givenEmitters(List.of(first, second));
+
+        // when
+        notificationHeartbeat.sendHeartbeat();
+
+        // then
+        verify(emitterRepository, timeout(1000).atLeastOnce()).evict(1L, first);
+        verify(emitterRepository, timeout(1000).atLeastOnce()).evict(2L, second);     // 첫 연결이 watchdog을 붙잡지 않음
+
+        socketTimeout.countDown();
+    }
+
+    /* 실제 SSE 응답 처리 과정으로 초기화된 emitter, 소켓 write는 socketTimeout까지 막혔다가 실패 */
+    private SseEmitter connect(CountDownLatch socketTimeout) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new BlockingResponse(socketTimeout);
+
+        NativeWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(webRequest).setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+
+        SseEmitter emitter = new SseEmitter(60_000L);
+        ResponseBodyEmitterReturnValueHandler handler =
+                new ResponseBodyEmitterReturnValueHandler(List.of(new StringHttpMessageConverter()));
+        MethodParameter returnType = new MethodParameter(getClass().getDeclaredMethod("subscribe"), -1);
+        handler.handleReturnValue(emitter, returnType, new ModelAndViewContainer(), webRequest);
+        return emitter;
+    }
+
+    private static SseEmitter subscribe() {
+        return null;
+    }
+
+    /* 상대가 읽지 않아 write가 막힌 소켓 */
+    private static class BlockingResponse extends MockHttpServletResponse {
+
+        private final CountDownLatch socketTimeout;
+
+        BlockingResponse(CountDownLatch socketTimeout) {
+            this.socketTimeout = socketTimeout;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    block();
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    block();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return false;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+
+                private void block() throws IOException {
+                    try {
+                        socketTimeout.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("write timed out");
+                }
+            };
+        }
+    }
+
+    /* 연결 순서대로 사용자 id를 1부터 부여 */
+    @SuppressWarnings("unchecked")
+    private void givenEmitters(List<SseEmitter> emitters) {
+        doAnswer(invocation -> {
+            BiConsumer<Long, SseEmitter> action = invocation.getArgument(0);
+            for (int i = 0; i < emitters.size(); i++) {
+                action.accept((long) i + 1, emitters.get(i));
+            }
+            return null;
+        }).when(emitterRepository).forEachEmitter(any());
+    }
+}
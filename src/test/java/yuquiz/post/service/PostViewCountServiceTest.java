@@ -0,0 +1,71 @@
+package yuquiz.post.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yuquiz.domain.post.repository.PostRepository;
+import yuquiz.domain.post.service.PostViewCountService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCountServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private MeterRegistry meterRegistry;
+    private PostViewCountService postViewCountService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postViewCountService = new PostViewCountService(postRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("누적된 게시글 조회수를 증가분별로 묶어 반영")
+    void flushViewCountsTest() {
+        // given
+        postViewCountService.increaseViewCount(1L);
+        postViewCountService.increaseViewCount(1L);
+        postViewCountService.increaseViewCount(2L);
+
+        // when
+        postViewCountService.flushViewCounts();
+
+        // then
+        verify(postRepository, times(1)).increaseViewCount(List.of(1L), 2);
+        verify(postRepository, times(1)).increaseViewCount(List.of(2L), 1);
+    }
+
+    @Test
+    @DisplayName("반영 대기 중인 증가분과 지연 시간 메트릭")
+    void pendingMetricsTest() {
+        // given
+        postViewCountService.increaseViewCount(1L);
+        postViewCountService.increaseViewCount(2L);
+
+        // when
+        double pending = meterRegistry.get("post.view_count.pending").gauge().value();
+        double lag = meterRegistry.get("post.view_count.flush.lag").gauge().value();
+
+        // then
+        assertEquals(2, pending);
+        assertTrue(lag >= 0);
+
+        postViewCountService.flushViewCounts();
+        assertEquals(0, meterRegistry.get("post.view_count.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("post.view_count.flush.lag").gauge().value());
+    }
+}
@@ -0,0 +1,47 @@
+package yuquiz.quiz.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yuquiz.common.exception.CustomException;
+import yuquiz.domain.quiz.dto.quiz.QuizCursor;
+import yuquiz.domain.quiz.dto.quiz.QuizSortType;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QuizCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬 기준으로 복원")
+    void encodeAndDecodeTest() {
+        // given
+        QuizCursor cursor = new QuizCursor(QuizSortType.DATE_DESC, "2024-09-23T17:06:25.689875", 38L);
+
+        // when
+        QuizCursor decoded = QuizCursor.decode(cursor.encode(), QuizSortType.DATE_DESC);
+
+        // then
+        assertEquals(38L, decoded.id());
+        assertEquals(LocalDateTime.parse("2024-09-23T17:06:25.689875"), decoded.dateValue());
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서는 거절")
+    void decodeSortMismatchTest() {
+        // given
+        String encoded = new QuizCursor(QuizSortType.LIKE_DESC, "5", 7L).encode();
+
+        // when & then
+        assertThrows(CustomException.class, () -> QuizCursor.decode(encoded, QuizSortType.VIEW_DESC));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거절")
+    void decodeMalformedTest() {
+        assertThrows(CustomException.class, () -> QuizCursor.decode("not-a-cursor", QuizSortType.DATE_DESC));
+        assertThrows(CustomException.class,
+                () -> QuizCursor.decode(new QuizCursor(QuizSortType.LIKE_DESC, "abc", 1L).encode(), QuizSortType.LIKE_DESC));
+    }
+}
@@ -0,0 +1,78 @@
+package yuquiz.quiz.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import yuquiz.domain.quiz.repository.QuizRepository;
+import yuquiz.domain.quiz.service.QuizViewCountService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class QuizViewCountServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    private QuizViewCountService quizViewCountService;
+
+    @BeforeEach
+    void setUp() {
+        quizViewCountService = new QuizViewCountService(quizRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 증가분별로 묶어 반영")
+    void flushViewCountsTest() {
+        // given
+        quizViewCountService.increaseViewCount(1L);
+        quizViewCountService.increaseViewCount(1L);
+        quizViewCountService.increaseViewCount(2L);
+
+        // when
+        quizViewCountService.flushViewCounts();
+
+        // then
+        verify(quizRepository, times(1)).increaseViewCount(List.of(1L), 2);
+        verify(quizRepository, times(1)).increaseViewCount(List.of(2L), 1);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분을 유지하고 다음 주기에 재시도")
+    void flushViewCountsRetryTest() {
+        // given
+        quizViewCountService.increaseViewCount(1L);
+        when(quizRepository.increaseViewCount(anyCollection(), anyInt()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(1);
+
+        // when
+        quizViewCountService.flushViewCounts();
+        quizViewCountService.flushViewCounts();
+
+        // then
+        verify(quizRepository, times(2)).increaseViewCount(List.of(1L), 1);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수가 없으면 쿼리를 보내지 않음")
+    void flushEmptyBufferTest() {
+        // when
+        quizViewCountService.flushViewCounts();
+
+        // then
+        verify(quizRepository, never()).increaseViewCount(anyCollection(), eq(1));
+    }
+}
@@ -0,0 +1,74 @@
+package yuquiz.quizSeries.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import yuquiz.domain.quiz.dto.quiz.QuizSummaryRes;
+import yuquiz.domain.quiz.entity.Quiz;
+import yuquiz.domain.quiz.repository.TriedQuizRepository;
+import yuquiz.domain.quizSeries.repository.QuizSeriesRepository;
+import yuquiz.domain.quizSeries.service.QuizSeriesService;
+import yuquiz.domain.series.repository.SeriesRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class QuizSeriesServiceTest {
+
+    @Mock
+    private QuizSeriesRepository quizSeriesRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private TriedQuizRepository triedQuizRepository;
+
+    @InjectMocks
+    private QuizSeriesService quizSeriesService;
+
+    @Test
+    @DisplayName("시리즈 퀴즈 목록의 풀이 여부를 한 번의 쿼리로 조회")
+    void getQuizzesBySeriesIdTest() {
+        // given
+        List<Quiz> quizList = List.of(mockQuiz(1L), mockQuiz(2L), mockQuiz(3L));
+        given(seriesRepository.findStudyIdById(1L)).willReturn(Optional.empty());
+        given(quizSeriesRepository.getQuizzesBySeriesId(eq(1L), any(), any()))
+                .willReturn(new PageImpl<>(quizList));
+        given(triedQuizRepository.getIsSolvedByUser_IdAndQuiz_IdIn(1L, List.of(1L, 2L, 3L)))
+                .willReturn(Map.of(1L, true, 3L, false));
+
+        // when
+        Page<QuizSummaryRes> quizzes = quizSeriesService.getQuizzesBySeriesId(1L, 0, 1L);
+
+        // then
+        assertEquals(true, quizzes.getContent().get(0).isSolved());
+        assertNull(quizzes.getContent().get(1).isSolved());
+        assertEquals(false, quizzes.getContent().get(2).isSolved());
+        verify(triedQuizRepository, times(1)).getIsSolvedByUser_IdAndQuiz_IdIn(anyLong(), any());
+    }
+
+    private Quiz mockQuiz(Long quizId) {
+        Quiz quiz = mock(Quiz.class, RETURNS_DEEP_STUBS);
+        given(quiz.getId()).willReturn(quizId);
+        return quiz;
+    }
+}
@@ -9,6 +9,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import yuquiz.common.exception.CustomException;
+import yuquiz.domain.chatRoom.entity.ChatRoom;
+import yuquiz.domain.chatRoom.service.ChatRoomService;
+import yuquiz.domain.studyUser.entity.StudyUser;
+import yuquiz.domain.studyUser.entity.UserState;
+import yuquiz.domain.studyUser.repository.StudyUserRepository;
 import yuquiz.domain.user.dto.req.PasswordReq;
 import yuquiz.domain.user.dto.req.PasswordUpdateReq;
 import yuquiz.domain.user.dto.req.UserUpdateReq;
@@ -18,6 +23,7 @@ import yuquiz.domain.user.exception.UserExceptionCode;
 import yuquiz.domain.user.repository.UserRepository;
 import yuquiz.domain.user.service.UserService;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -26,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,6 +46,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private StudyUserRepository studyUserRepository;
+
+    @Mock
+    private ChatRoomService chatRoomService;
+
     @InjectMocks
     private UserService userService;
 
@@ -99,12 +112,18 @@ public class UserServiceTest {
     @DisplayName("회원 정보 탈퇴 테스트")
     void deleteUserInfoTest() {
         // given
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        StudyUser studyUser = mock(StudyUser.class);
+        given(chatRoom.getId()).willReturn(3L);
+        given(studyUser.getChatRoom()).willReturn(chatRoom);
+        given(studyUserRepository.findByUser_IdAndState(userId, UserState.REGISTERED)).willReturn(List.of(studyUser));
 
         // when
         userService.deleteUserInfo(userId);
 
         // then
         verify(userRepository, times(1)).deleteById(userId);
+        verify(chatRoomService, times(1)).kickChatMember(userId, 3L);     // 참여 중이던 채팅방 세션 권한 제거
     }
 
     @Test